@@ -0,0 +1,63 @@
+package grpify.grpify.benchmark;
+
+import grpify.grpify.GrpifyApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 벤치마크용 스프링 컨텍스트.
+ * 서비스, 리포지토리만 올리고 웹/보안/OAuth/Spotify/검색 인덱스 관련 빈은 제외 -> 외부 설정, 네트워크 없이 실행 가능
+ * DB 는 H2 인메모리 (MySQL 모드), 스케줄링은 켜지 않음 (flush 시점은 벤치마크에서 직접 제어)
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.hikari.maximum-pool-size=64",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false",
+                        "spring.main.banner-mode=off",
+                        "grpify.counter.journal.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            SecurityAutoConfiguration.class,
+            UserDetailsServiceAutoConfiguration.class,
+            OAuth2ClientAutoConfiguration.class
+    })
+    @EnableJpaAuditing
+    @EntityScan("grpify.grpify")
+    @EnableJpaRepositories("grpify.grpify")
+    @ComponentScan(basePackages = "grpify.grpify", excludeFilters = {
+            @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = RestController.class),
+            @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = GrpifyApplication.class),
+            @ComponentScan.Filter(type = FilterType.REGEX,
+                    pattern = "grpify\\.grpify\\.(auth|config|spotifyAPI|search|benchmark)\\..*")
+    })
+    static class BenchmarkApplication {
+    }
+}
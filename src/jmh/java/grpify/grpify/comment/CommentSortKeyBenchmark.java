@@ -0,0 +1,162 @@
+package grpify.grpify.comment;
+
+import grpify.grpify.comment.domain.CommentSortKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 정렬 키 형식별 (post_id, sort_key) 인덱스 크기, 범위 스캔 속도 비교
+ *
+ * legacy : %010d 세그먼트를 "->" 로 연결 (이전 형식)
+ * compact: 36진수 7자 고정 길이 세그먼트, 구분자 x (CommentSortKey)
+ *
+ * 정렬 키 차이만 보도록 스프링 컨텍스트 없이 H2(MySQL 모드) 에 comment 와 같은 인덱스를 가진 테이블만 만들어서 측정
+ * 게시글 posts 개, 게시글마다 댓글 commentsPerPost 개 (부모는 무작위, 최대 depth 5)
+ * 인덱스 크기는 setup 에서 출력 (키 길이 합계, H2 DISK_SPACE_USED)
+ * PreparedStatement 를 공유하므로 단일 스레드로 실행 (./gradlew jmh 기본 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommentSortKeyBenchmark {
+
+    private static final int MAX_DEPTH = 5;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"legacy", "compact"})
+    private String format;
+
+    @Param({"200"})
+    private int posts;
+
+    @Param({"1000"})
+    private int commentsPerPost;
+
+    private Connection connection;
+    private PreparedStatement rankStatement;
+    private PreparedStatement pageStatement;
+    private List<String> sampleKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:sort_key_" + format + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS comment_bench");
+            statement.execute("""
+                    CREATE TABLE comment_bench (
+                        comment_id BIGINT PRIMARY KEY,
+                        post_id BIGINT NOT NULL,
+                        sort_key VARCHAR(255) NOT NULL
+                    )""");
+            statement.execute("CREATE INDEX idx_comment_bench_post_sort ON comment_bench (post_id, sort_key)");
+        }
+
+        sampleKeys = new ArrayList<>();
+        Random random = new Random(42);
+        long commentId = 0;
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO comment_bench (comment_id, post_id, sort_key) VALUES (?, ?, ?)")) {
+            for (long postId = 1; postId <= posts; postId++) {
+                List<String> keys = new ArrayList<>();
+                List<Integer> depths = new ArrayList<>();
+                for (int i = 0; i < commentsPerPost; i++) {
+                    commentId++;
+                    // 절반은 루트 댓글, 나머지는 앞 댓글 중 하나의 답글
+                    int parent = (i == 0 || random.nextBoolean()) ? -1 : random.nextInt(i);
+                    if (parent >= 0 && depths.get(parent) >= MAX_DEPTH) {
+                        parent = -1;
+                    }
+                    String key = sortKey(parent >= 0 ? keys.get(parent) : null, commentId);
+                    keys.add(key);
+                    depths.add(parent >= 0 ? depths.get(parent) + 1 : 0);
+
+                    insert.setLong(1, commentId);
+                    insert.setLong(2, postId);
+                    insert.setString(3, key);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                sampleKeys.add(keys.get(random.nextInt(keys.size())));
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT SUM(CHAR_LENGTH(sort_key)), AVG(CHAR_LENGTH(sort_key)), DISK_SPACE_USED('COMMENT_BENCH') FROM comment_bench")) {
+            rs.next();
+            System.out.printf("%n[%s] sort_key 합계 %d자, 평균 %.1f자, 테이블+인덱스 %d bytes%n",
+                    format, rs.getLong(1), rs.getDouble(2), rs.getLong(3));
+        }
+
+        rankStatement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM comment_bench WHERE post_id = ? AND sort_key <= ?");
+        pageStatement = connection.prepareStatement(
+                "SELECT comment_id, sort_key FROM comment_bench WHERE post_id = ? AND sort_key > ? ORDER BY sort_key LIMIT " + PAGE_SIZE);
+    }
+
+    private String sortKey(String parentKey, long commentId) {
+        if ("legacy".equals(format)) {
+            String self = String.format("%010d", commentId);
+            return parentKey == null ? self : parentKey + "->" + self;
+        }
+        return CommentSortKey.of(parentKey, commentId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE comment_bench");
+        }
+        connection.close();
+    }
+
+    // 댓글 작성/수정 후 페이지 번호 계산 (countByPost_IdAndSortKeyLessThanEqual)
+    @Benchmark
+    public long rank() throws SQLException {
+        int post = ThreadLocalRandom.current().nextInt(posts);
+        rankStatement.setLong(1, post + 1);
+        rankStatement.setString(2, sampleKeys.get(post));
+        try (ResultSet rs = rankStatement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // 정렬 키 이후 한 페이지 범위 스캔
+    @Benchmark
+    public void page(Blackhole blackhole) throws SQLException {
+        int post = ThreadLocalRandom.current().nextInt(posts);
+        pageStatement.setLong(1, post + 1);
+        pageStatement.setString(2, sampleKeys.get(post));
+        try (ResultSet rs = pageStatement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getString(2));
+            }
+        }
+    }
+}
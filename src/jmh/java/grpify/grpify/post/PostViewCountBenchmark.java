@@ -0,0 +1,119 @@
+package grpify.grpify.post;
+
+import grpify.grpify.benchmark.BenchmarkContext;
+import grpify.grpify.board.domain.Board;
+import grpify.grpify.board.repository.BoardRepository;
+import grpify.grpify.common.counter.CounterBuffer;
+import grpify.grpify.post.domain.Post;
+import grpify.grpify.post.repository.PostRepository;
+import grpify.grpify.post.service.PostService;
+import grpify.grpify.user.domain.User;
+import grpify.grpify.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostViewCountPerformanceTest 의 조회수 증가 방식 비교를 JMH 로 옮긴 벤치마크.
+ *
+ * 스레드 수는 실행 옵션으로 조절 (jmhThreadSweep 태스크 참고)
+ * Throughput  : 초당 처리량
+ * SampleTime  : 응답 시간 분포 (p50, p90, p99, p99.9 ...)
+ *
+ * 모든 스레드가 같은 게시글 하나를 증가시킴 -> 인기 게시글에 요청이 몰리는 상황
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PostViewCountBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private CounterBuffer counterBuffer;
+    private Long postId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("view_count");
+        postService = context.getBean(PostService.class);
+        counterBuffer = context.getBean(CounterBuffer.class);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .name("bench_user")
+                .email("bench@example.com")
+                .build());
+        Board board = context.getBean(BoardRepository.class).save(Board.builder()
+                .name("벤치마크게시판")
+                .description("벤치마크용 게시판")
+                .build());
+        Post post = context.getBean(PostRepository.class).save(Post.builder()
+                .title("벤치마크")
+                .preview("벤치마크 내용")
+                .author(user)
+                .board(board)
+                .build());
+        postId = post.getId();
+    }
+
+    // 버퍼 방식은 스케줄러가 없으므로 iteration 마다 직접 반영
+    @TearDown(Level.Iteration)
+    public void flush() {
+        counterBuffer.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Case 1: 엔티티 방식 (SELECT -> 메모리 증가 -> UPDATE), 갱신 손실 발생
+    @Benchmark
+    public void entity() {
+        postService.incrementViewCountEntity(postId);
+    }
+
+    // Case 2: 벌크 업데이트 방식 (UPDATE ... SET view_count = view_count + 1)
+    @Benchmark
+    public void bulkUpdate() {
+        postService.incrementViewCountBulk(postId);
+    }
+
+    // Case 3: 비관적 락 (JPA @Lock)
+    @Benchmark
+    public void pessimistic() {
+        postService.incrementViewCountPessimistic(postId);
+    }
+
+    // Case 3-1: 비관적 락 (Native FOR UPDATE)
+    @Benchmark
+    public void pessimisticNative() {
+        postService.incrementViewCountPessimisticNative(postId);
+    }
+
+    // Case 4: 낙관적 락 (수동 버전 체크 + 재시도)
+    // 최대 재시도 초과 시 예외가 나는데, 벤치마크가 중단되지 않도록 실패도 한 번의 요청으로 집계
+    @Benchmark
+    public void optimistic(Blackhole blackhole) {
+        try {
+            postService.incrementViewCountOptimistic(postId);
+        } catch (RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    // 현재 방식: 메모리 버퍼 + 주기적 배치 반영
+    @Benchmark
+    public void buffered() {
+        postService.incrementViewCount(postId);
+    }
+}
@@ -0,0 +1,42 @@
+package grpify.grpify.post;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * JMH 는 한 번 실행에 스레드 수를 하나만 지정할 수 있어서, 스레드 수별로 반복 실행.
+ * 결과는 build/reports/jmh/view-count-{스레드 수}t.json 으로 저장 -> 릴리즈 간 비교용
+ *
+ * ./gradlew jmhThreadSweep -Pthreads=1,8,32
+ */
+public class PostViewCountBenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        int[] threadCounts = Arrays.stream((args.length > 0 ? args[0] : "1,8,32").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        new File("build/reports/jmh").mkdirs();
+
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(PostViewCountBenchmark.class.getName())
+                    .threads(threads)
+                    .warmupIterations(2)
+                    .measurementIterations(3)
+                    .forks(1)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("build/reports/jmh/view-count-" + threads + "t.json")
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
@@ -8,13 +8,20 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(uniqueConstraints = {
+        // 좋아요 INSERT (ON DUPLICATE KEY) / DELETE 가 중복 체크 없이 멱등하게 동작하도록
+        @UniqueConstraint(name = "uk_post_like_user_post", columnNames = {"user_id", "post_id"})
+}, indexes = {
+        // 좋아요한 게시글 목록 키셋 페이징용 (최근 좋아요 순)
+        @Index(name = "idx_post_like_user_created", columnList = "user_id, created_at, post_like_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class PostLike extends BaseTimeEntity {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // 네이티브 INSERT 에서 id 생략 가능하도록
     @Column(name = "post_like_id")
     private Long id;
 
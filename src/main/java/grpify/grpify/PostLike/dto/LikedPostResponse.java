@@ -0,0 +1,31 @@
+package grpify.grpify.PostLike.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요한 게시글 목록용 응답 (JPQL 생성자 프로젝션)
+ * post_like 에서 post, author, board 를 조인해 한 번에 조회 -> PostLike.post 지연 로딩 N+1 x
+ * likeId, likedAt 은 다음 페이지 커서용
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class LikedPostResponse {
+    private Long likeId;
+    private LocalDateTime likedAt;
+    private Long postId;
+    private String title;
+    private String preview;
+    private int viewCount;
+    private int commentCount;
+    private int likeCount;
+    private Long authorId;
+    private String authorName;
+    private Long boardId;
+    private String boardName;
+    private LocalDateTime createdAt;
+}
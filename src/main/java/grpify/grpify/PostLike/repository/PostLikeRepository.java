@@ -1,6 +1,7 @@
 package grpify.grpify.PostLike.repository;
 
 import grpify.grpify.PostLike.domain.PostLike;
+import grpify.grpify.PostLike.dto.LikedPostResponse;
 import grpify.grpify.comment.domain.Comment;
 import grpify.grpify.commentLike.domain.CommentLike;
 import grpify.grpify.post.domain.Post;
@@ -8,9 +9,11 @@ import grpify.grpify.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -18,6 +21,31 @@ import java.util.Set;
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByUserAndPost(User user, Post post);
 
+    /**
+     * 좋아요 추가 (이미 있으면 updated_at 만 갱신, SELECT 쪽 테이블에도 updated_at 이 있어서 대상 테이블 명시), 게시글/게시판이 살아있을 때만
+     * unique (user_id, post_id) 로 중복 방지 -> 조회 후 INSERT 사이의 경쟁 조건 x
+     * INSERT IGNORE 는 키 중복 외의 오류(FK, NOT NULL 등)까지 경고로 바꿔 삼킴 -> 키 중복만 ON DUPLICATE KEY 로 처리
+     * 이미 있으면 값이 바뀌는 UPDATE 로 2 반환 (값이 그대로면 useAffectedRows 설정에 따라 0/1 이 달라져 새로 추가된 것과 구분 x)
+     * @return 1: 새로 추가됨, 2: 이미 있음, 0: 게시글 없음
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_like (user_id, post_id, created_at, updated_at)
+            SELECT :userId, p.post_id, NOW(6), NOW(6)
+            FROM post p
+            JOIN board b ON b.board_id = p.board_id
+            WHERE p.post_id = :postId AND p.is_deleted = 0 AND b.is_deleted = 0
+            ON DUPLICATE KEY UPDATE post_like.updated_at = NOW(6)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * @return 1: 삭제됨, 0: 원래 없음
+     */
+    @Modifying
+    @Query(value = "DELETE FROM post_like WHERE user_id = :userId AND post_id = :postId", nativeQuery = true)
+    int deleteIfPresent(@Param("userId") Long userId, @Param("postId") Long postId);
+
     @Query(value = """
             SELECT cl.comment.id
             FROM CommentLike cl
@@ -27,6 +55,48 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
                                  @Param("userId") Long userId,
                                  @Param("commentIds") List<Long> commentIds);
 
+    // 사용자가 좋아요한 게시글 id 전체 (LikedIdsCache 적재용), unique (user_id, post_id) 인덱스만으로 조회
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 좋아요한 게시글 목록 (키셋 페이징, 최근 좋아요 순)
+     * 커서 = 마지막으로 본 (post_like.created_at, post_like_id), 인덱스: (user_id, created_at, post_like_id)
+     * 게시글, 작성자, 게시판까지 조인한 프로젝션 -> 페이지당 쿼리 1번
+     * 삭제된 게시글/게시판은 제외, pageable 은 limit(size + 1) 용도로만 사용
+     */
+    @Query("""
+            SELECT new grpify.grpify.PostLike.dto.LikedPostResponse(
+                pl.id, pl.createdAt, p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount,
+                a.id, a.name, b.id, b.name, p.createdAt
+            )
+            FROM PostLike pl
+            JOIN pl.post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE pl.user.id = :userId AND p.isDeleted = false AND b.isDeleted = false
+            ORDER BY pl.createdAt DESC, pl.id DESC
+            """)
+    List<LikedPostResponse> findFirstLikedPosts(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+            SELECT new grpify.grpify.PostLike.dto.LikedPostResponse(
+                pl.id, pl.createdAt, p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount,
+                a.id, a.name, b.id, b.name, p.createdAt
+            )
+            FROM PostLike pl
+            JOIN pl.post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE pl.user.id = :userId AND p.isDeleted = false AND b.isDeleted = false
+            AND (pl.createdAt < :likedAt OR (pl.createdAt = :likedAt AND pl.id < :likeId))
+            ORDER BY pl.createdAt DESC, pl.id DESC
+            """)
+    List<LikedPostResponse> findNextLikedPosts(@Param("userId") Long userId,
+                                               @Param("likedAt") LocalDateTime likedAt,
+                                               @Param("likeId") Long likeId,
+                                               Pageable pageable);
+
     Page<PostLike> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
     boolean existsByUser_IdAndPost(Long userId, Post post);
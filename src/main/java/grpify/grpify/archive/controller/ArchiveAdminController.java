@@ -0,0 +1,27 @@
+package grpify.grpify.archive.controller;
+
+import grpify.grpify.archive.dto.ArchiveStatsResponse;
+import grpify.grpify.archive.service.ArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 보관 작업 진행 상황 (관리자 전용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/archive")
+@PreAuthorize("hasRole('ADMIN')")
+public class ArchiveAdminController {
+
+    private final ArchiveService archiveService;
+
+    @GetMapping
+    public ResponseEntity<ArchiveStatsResponse> getStats() {
+        return ResponseEntity.ok(archiveService.stats());
+    }
+}
@@ -0,0 +1,50 @@
+package grpify.grpify.archive.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 후 보관 기간이 지나 comment 테이블에서 옮겨진 댓글
+ * 행은 ArchiveRepository 가 INSERT ... SELECT 로 직접 옮김, 엔티티는 스키마 정의용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "comment_archive", indexes = {
+        @Index(name = "idx_comment_archive_post", columnList = "post_id")
+})
+public class CommentArchive {
+
+    @Id
+    @Column(name = "comment_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private Long parentCommentId;
+
+    @Column(nullable = false)
+    private String content;
+
+    private int likeCount;
+
+    private String sortKey;
+
+    private int depth;
+
+    private LocalDateTime createdAt;
+
+    // 원본의 마지막 수정 시각 (본인이 삭제된 경우 삭제 시각)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,50 @@
+package grpify.grpify.archive.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 후 보관 기간이 지나 post 테이블에서 옮겨진 게시글 (본문 포함)
+ * 행은 ArchiveRepository 가 INSERT ... SELECT 로 직접 옮김, 엔티티는 스키마 정의용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_archive")
+public class PostArchive {
+
+    @Id
+    @Column(name = "post_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 30)
+    private String title;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    private int viewCount;
+
+    private int commentCount;
+
+    private int likeCount;
+
+    private LocalDateTime createdAt;
+
+    // 원본의 마지막 수정 시각 (본인이 삭제된 경우 삭제 시각)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
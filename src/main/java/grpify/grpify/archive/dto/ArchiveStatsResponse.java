@@ -0,0 +1,23 @@
+package grpify.grpify.archive.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 작업 진행 상황 (관리자 조회용)
+ */
+@Getter
+@Builder
+public class ArchiveStatsResponse {
+    private boolean running;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastFinishedAt;
+    private long lastRunComments;
+    private long lastRunPosts;
+    private long lastRunBatches;
+    private long totalComments;
+    private long totalPosts;
+    private String lastError;
+}
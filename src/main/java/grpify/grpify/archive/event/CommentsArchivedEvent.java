@@ -0,0 +1,9 @@
+package grpify.grpify.archive.event;
+
+import java.util.List;
+
+/**
+ * 보관 작업으로 댓글 row 가 comment 테이블에서 지워짐 (트랜잭션 커밋 후 댓글 순위 인덱스, 목록 캐시 무효화에 사용)
+ */
+public record CommentsArchivedEvent(List<Long> postIds) {
+}
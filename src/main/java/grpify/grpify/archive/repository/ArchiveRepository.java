@@ -0,0 +1,100 @@
+package grpify.grpify.archive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 삭제된 게시글/댓글을 보관 테이블로 이동 (INSERT ... SELECT 후 DELETE)
+ * 한 번에 LIMIT 개씩만 -> 락 잡는 시간, undo 로그 크기를 작게 유지
+ *
+ * FK 때문에 순서 중요
+ *  - 댓글: 자식 댓글이 남아있지 않은 댓글만 (깊은 스레드는 잎부터 한 단계씩 이동)
+ *  - 게시글: 댓글이 모두 이동된 게시글만
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 이동 대상 댓글: 보관 기간이 지난 (삭제된 댓글 or 삭제된 게시글의 댓글) 중 자식이 없는 것
+     * OR 조건은 인덱스를 못 타서 UNION 으로 나눔 -> comment(is_deleted, updated_at), post(is_deleted, updated_at)
+     */
+    public List<Long> findArchivableCommentIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT comment_id FROM (
+                    (SELECT c.comment_id FROM comment c
+                     WHERE c.is_deleted = true AND c.updated_at < :cutoff
+                     AND NOT EXISTS (SELECT 1 FROM comment child WHERE child.parent_comment_id = c.comment_id)
+                     LIMIT :limit)
+                    UNION
+                    (SELECT c.comment_id FROM post p
+                     JOIN comment c ON c.post_id = p.post_id
+                     WHERE p.is_deleted = true AND p.updated_at < :cutoff
+                     AND NOT EXISTS (SELECT 1 FROM comment child WHERE child.parent_comment_id = c.comment_id)
+                     LIMIT :limit)
+                ) candidates
+                LIMIT :limit
+                """, Map.of("cutoff", cutoff, "limit", limit), Long.class);
+    }
+
+    public List<Long> findPostIdsOfComments(Collection<Long> commentIds) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT post_id FROM comment WHERE comment_id IN (:ids)",
+                new MapSqlParameterSource("ids", commentIds), Long.class);
+    }
+
+    public int archiveComments(Collection<Long> commentIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", commentIds);
+
+        jdbcTemplate.update("""
+                INSERT INTO comment_archive
+                    (comment_id, post_id, user_id, parent_comment_id, content, like_count, sort_key, depth,
+                     created_at, updated_at, archived_at)
+                SELECT c.comment_id, c.post_id, c.user_id, c.parent_comment_id, c.content, c.like_count, c.sort_key, c.depth,
+                       c.created_at, c.updated_at, NOW()
+                FROM comment c
+                WHERE c.comment_id IN (:ids)
+                """, params);
+        jdbcTemplate.update("DELETE FROM comment_like WHERE comment_id IN (:ids)", params);
+        return jdbcTemplate.update("DELETE FROM comment WHERE comment_id IN (:ids)", params);
+    }
+
+    /**
+     * 이동 대상 게시글: 보관 기간이 지난 삭제된 게시글 중 댓글이 모두 이동된 것
+     */
+    public List<Long> findArchivablePostIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT p.post_id FROM post p
+                WHERE p.is_deleted = true AND p.updated_at < :cutoff
+                AND NOT EXISTS (SELECT 1 FROM comment c WHERE c.post_id = p.post_id)
+                LIMIT :limit
+                """, Map.of("cutoff", cutoff, "limit", limit), Long.class);
+    }
+
+    public int archivePosts(Collection<Long> postIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", postIds);
+
+        jdbcTemplate.update("""
+                INSERT INTO post_archive
+                    (post_id, board_id, user_id, title, body, view_count, comment_count, like_count,
+                     created_at, updated_at, archived_at)
+                SELECT p.post_id, p.board_id, p.user_id, p.title, pc.body, p.view_count, p.comment_count, p.like_count,
+                       p.created_at, p.updated_at, NOW()
+                FROM post p
+                LEFT JOIN post_content pc ON pc.post_id = p.post_id
+                WHERE p.post_id IN (:ids)
+                """, params);
+        jdbcTemplate.update("DELETE FROM post_like WHERE post_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM post_content WHERE post_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM post_counter_shard WHERE post_id IN (:ids)", params);
+        return jdbcTemplate.update("DELETE FROM post WHERE post_id IN (:ids)", params);
+    }
+}
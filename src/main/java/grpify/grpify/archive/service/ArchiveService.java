@@ -0,0 +1,158 @@
+package grpify.grpify.archive.service;
+
+import grpify.grpify.archive.dto.ArchiveStatsResponse;
+import grpify.grpify.archive.event.CommentsArchivedEvent;
+import grpify.grpify.archive.repository.ArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * 삭제된 지 N 일이 지난 게시글/댓글을 post_archive, comment_archive 로 이동
+ *
+ * soft delete 된 row 가 계속 남아 있으면 (board_id, is_deleted, created_at), (post_id, sort_key) 인덱스가 커짐
+ * -> 읽기 경로 전체가 느려짐
+ *
+ * 락을 오래 잡지 않도록
+ *  - 배치 하나 = 트랜잭션 하나, LIMIT batch-size 개 (grpify.archive.batch-size)
+ *  - 배치 사이에 쉬어서 다른 쓰기 트랜잭션이 끼어들 틈을 줌 (grpify.archive.batch-pause-ms)
+ *  - 한 번 실행에 최대 max-batches 배치, 남은 건 다음 실행에서 (grpify.archive.max-batches)
+ */
+@Slf4j
+@Service
+public class ArchiveService {
+
+    private final ArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long batchPauseMs;
+    private final int maxBatches;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong totalComments = new AtomicLong();
+    private final AtomicLong totalPosts = new AtomicLong();
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile long lastRunComments;
+    private volatile long lastRunPosts;
+    private volatile long lastRunBatches;
+    private volatile String lastError;
+
+    public ArchiveService(ArchiveRepository archiveRepository,
+                          TransactionTemplate transactionTemplate,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${grpify.archive.retention-days:30}") int retentionDays,
+                          @Value("${grpify.archive.batch-size:500}") int batchSize,
+                          @Value("${grpify.archive.batch-pause-ms:200}") long batchPauseMs,
+                          @Value("${grpify.archive.max-batches:200}") int maxBatches) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+        this.maxBatches = maxBatches;
+    }
+
+    /**
+     * 댓글 먼저 이동 (게시글은 댓글이 남아있으면 FK 때문에 이동 불가)
+     */
+    @Scheduled(cron = "${grpify.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        lastStartedAt = LocalDateTime.now();
+        lastRunComments = 0;
+        lastRunPosts = 0;
+        lastRunBatches = 0;
+        lastError = null;
+        LocalDateTime cutoff = lastStartedAt.minusDays(retentionDays);
+
+        try {
+            long comments = drain(cutoff, archiveRepository::findArchivableCommentIds, this::archiveComments,
+                    moved -> {
+                        lastRunComments += moved;
+                        totalComments.addAndGet(moved);
+                    });
+            long posts = drain(cutoff, archiveRepository::findArchivablePostIds, archiveRepository::archivePosts,
+                    moved -> {
+                        lastRunPosts += moved;
+                        totalPosts.addAndGet(moved);
+                    });
+
+            log.info("보관 작업 완료: 댓글 {}건, 게시글 {}건, 배치 {}회", comments, posts, lastRunBatches);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError = "interrupted";
+        } catch (RuntimeException e) {
+            // 실패한 배치만 롤백, 이미 옮긴 배치는 유지 -> 다음 실행에서 이어서
+            log.error("보관 작업 실패: {}", e.getMessage(), e);
+            lastError = e.getMessage();
+        } finally {
+            lastFinishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+
+    // 댓글이 지워진 게시글은 순위 인덱스, 댓글 목록 캐시를 커밋 후 무효화
+    private int archiveComments(Collection<Long> commentIds) {
+        List<Long> postIds = archiveRepository.findPostIdsOfComments(commentIds);
+        int moved = archiveRepository.archiveComments(commentIds);
+        eventPublisher.publishEvent(new CommentsArchivedEvent(postIds));
+        return moved;
+    }
+
+    private long drain(LocalDateTime cutoff,
+                       BiFunction<LocalDateTime, Integer, List<Long>> finder,
+                       Function<Collection<Long>, Integer> mover,
+                       IntConsumer progress) throws InterruptedException {
+        long moved = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = finder.apply(cutoff, batchSize);
+                return ids.isEmpty() ? 0 : mover.apply(ids);
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+
+            moved += count;
+            lastRunBatches++;
+            progress.accept(count);
+            log.debug("보관 배치 {}: {}건", batch + 1, count);
+
+            Thread.sleep(batchPauseMs);
+        }
+        return moved;
+    }
+
+    public ArchiveStatsResponse stats() {
+        return ArchiveStatsResponse.builder()
+                .running(running.get())
+                .lastStartedAt(lastStartedAt)
+                .lastFinishedAt(lastFinishedAt)
+                .lastRunComments(lastRunComments)
+                .lastRunPosts(lastRunPosts)
+                .lastRunBatches(lastRunBatches)
+                .totalComments(totalComments.get())
+                .totalPosts(totalPosts.get())
+                .lastError(lastError)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package grpify.grpify.auth;
 
+import grpify.grpify.common.enums.Role;
 import grpify.grpify.user.domain.User;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +19,10 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // 유저 권한 부여 (필요 시 ROLE_ADMIN 등 추가 가능)
+        // 유저 권한 부여, 관리자는 USER 권한도 같이 (일반 API 도 그대로 사용)
+        if (user.getRole() == Role.ADMIN) {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
         return List.of(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
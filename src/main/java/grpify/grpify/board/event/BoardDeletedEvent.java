@@ -0,0 +1,7 @@
+package grpify.grpify.board.event;
+
+/**
+ * 게시판 삭제 이벤트 (하위 게시글, 댓글까지 일괄 삭제된 뒤 커밋 시점에 처리)
+ */
+public record BoardDeletedEvent(Long boardId) {
+}
@@ -3,6 +3,7 @@ package grpify.grpify.board.service;
 import grpify.grpify.board.domain.Board;
 import grpify.grpify.board.dto.BoardRequest;
 import grpify.grpify.board.dto.BoardResponse;
+import grpify.grpify.board.event.BoardDeletedEvent;
 import grpify.grpify.board.repository.BoardRepository;
 import grpify.grpify.comment.repository.CommentRepository;
 import grpify.grpify.comment.service.CommentService;
@@ -12,6 +13,7 @@ import grpify.grpify.post.domain.Post;
 import grpify.grpify.post.repository.PostRepository;
 import grpify.grpify.post.service.PostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class BoardService {
 //    private final PostService postService;
 //    private final CommentService commentService; //순환 참조 문제 때문에 repository 통해서 sodfdelete 실행
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
     // 반환 타입 고민해보기
     @Transactional
     public BoardResponse create(BoardRequest request) {
@@ -43,15 +46,17 @@ public class BoardService {
         return BoardResponse.from(savedBoard);
     }
 
+    /**
+     * 게시판만 삭제 표시 (하위 게시글, 댓글을 한 트랜잭션에서 전부 UPDATE 하지 않음)
+     * 게시글/댓글 조회는 게시판 상태로 걸러내고, 하위 row 는 TombstoneSweeper 가 나중에 나눠서 삭제 표시
+     */
     @Transactional
     public void softDelete(Long boardId) {
         Board board = findById(boardId);
 
-        // 하위 요소부터 처리 //순환 참조 문제 때문에 repository 통해서 sodfdelete 실행
-        commentRepository.bulkSoftDeleteByBoardIdNative(boardId);
-        postRepository.bulkSoftDeleteByBoardIdNative(boardId);
-
         board.softDelete();
+        // 커밋 후 게시판 목록 캐시 무효화
+        eventPublisher.publishEvent(new BoardDeletedEvent(boardId));
     }
 
     public Board findById(Long boardId) {
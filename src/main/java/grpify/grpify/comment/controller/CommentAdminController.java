@@ -0,0 +1,43 @@
+package grpify.grpify.comment.controller;
+
+import grpify.grpify.comment.dto.SortKeyMigrationResponse;
+import grpify.grpify.comment.service.CommentSortKeyMigrationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 댓글 관리 작업 (관리자 전용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/comments")
+@PreAuthorize("hasRole('ADMIN')")
+public class CommentAdminController {
+
+    private final CommentSortKeyMigrationService commentSortKeyMigrationService;
+
+    /**
+     * 이전 형식 정렬 키 변환, completed = false 면 다시 호출해서 이어서 진행
+     */
+    @PostMapping("/sort-keys/migrate")
+    public ResponseEntity<SortKeyMigrationResponse> migrateSortKeys(
+            @RequestParam(defaultValue = "1000") int maxBatches) {
+
+        return ResponseEntity.ok(commentSortKeyMigrationService.migrate(maxBatches));
+    }
+
+    /**
+     * 하위 댓글 수 재계산, completed = false 면 다시 호출 (처음 게시글부터 다시 진행, 이미 맞는 row 는 수정 x)
+     */
+    @PostMapping("/reply-counts/rebuild")
+    public ResponseEntity<SortKeyMigrationResponse> rebuildReplyCounts(
+            @RequestParam(defaultValue = "1000") int maxBatches) {
+
+        return ResponseEntity.ok(commentSortKeyMigrationService.rebuildReplyCounts(maxBatches));
+    }
+}
@@ -4,15 +4,19 @@ import grpify.grpify.auth.CustomUserDetails;
 import grpify.grpify.comment.dto.*;
 import grpify.grpify.comment.service.CommentService;
 import grpify.grpify.commentLike.dto.LikeResponse;
+import grpify.grpify.common.dto.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.net.URI;
@@ -22,6 +26,8 @@ import java.net.URI;
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final CommentService commentService;
 
     /**
@@ -40,6 +46,70 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    /**
+     * 댓글 목록 조회 (게시글별, 커서 방식)
+     * 모든 사용자가 접근 가능 (비로그인 포함)
+     * after 파라미터가 있으면 이 API 로 처리, 첫 페이지는 after= (빈 값), 다음 페이지는 응답의 nextCursor 를 그대로 전달
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorResponse<CommentsResponse>> getCommentsCursor(
+            @RequestParam Long postId,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long currentUserId = (userDetails != null) ? userDetails.getUser().getId() : null;
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return ResponseEntity.ok(commentService.findCommentsByPostCursor(postId, currentUserId, after, pageSize));
+    }
+
+    /**
+     * 루트 댓글 목록 조회 (게시글별, 커서 방식)
+     * 답글은 replyCount 만 포함, 펼칠 때 /{commentId}/replies 로 조회
+     */
+    @GetMapping("/roots")
+    public ResponseEntity<CursorResponse<CommentsResponse>> getRootComments(
+            @RequestParam Long postId,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long currentUserId = (userDetails != null) ? userDetails.getUser().getId() : null;
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return ResponseEntity.ok(commentService.findRootComments(postId, currentUserId, after, pageSize));
+    }
+
+    /**
+     * 한 댓글의 하위 댓글 조회 (커서 방식, 계층 순서)
+     */
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CursorResponse<CommentsResponse>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long currentUserId = (userDetails != null) ? userDetails.getUser().getId() : null;
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return ResponseEntity.ok(commentService.findReplies(commentId, currentUserId, after, pageSize));
+    }
+
+    /**
+     * 게시글 댓글 전체 내보내기 (관리자 전용, 모더레이션/분석용)
+     * 정렬 키 순서, 한 줄에 댓글 하나 (NDJSON), 페이지 나눔 x
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportComments(@RequestParam Long postId) {
+        commentService.checkExportable(postId);
+
+        StreamingResponseBody body = out -> commentService.exportComments(postId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"comments-" + postId + ".ndjson\"")
+                .body(body);
+    }
+
 
     /**
      * 댓글 작성 (일반 댓글 및 대댓글)
@@ -11,6 +11,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        // 게시글별 댓글 계층 순서 조회, 순위(페이지 번호) 계산용 -> 커버링 인덱스라 키가 짧을수록 유리 (CommentSortKey)
+        @Index(name = "idx_comment_rank_calculation", columnList = "post_id, sort_key"),
+        // 루트 댓글만 정렬 키 순서로 조회 (답글을 건너뛰며 스캔하지 않도록)
+        @Index(name = "idx_comment_post_depth_sort", columnList = "post_id, depth, sort_key"),
+        // 보관(archive) 대상 조회용
+        @Index(name = "idx_comment_deleted_updated", columnList = "is_deleted, updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -33,12 +41,18 @@ public class Comment extends BaseTimeEntity {
     @Builder.Default
     private boolean isDeleted = false;
 
+    // CommentSortKey 참고
     @Column(name = "sort_key", nullable = false)
     private String sortKey;
 
     @Column(nullable = false)
     private int depth;
 
+    // 하위 댓글(답글, 답글의 답글 ...) 수, 답글 작성 시 조상 댓글 전부 +1 (삭제돼도 목록에 남으므로 감소 x)
+    @Column(nullable = false)
+    @Builder.Default
+    private int replyCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
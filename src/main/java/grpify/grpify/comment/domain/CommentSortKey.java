@@ -0,0 +1,127 @@
+package grpify.grpify.comment.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 댓글 정렬 키 (계층 순서)
+ *
+ * 조상 댓글 id 부터 자기 id 까지 고정 길이 세그먼트를 구분자 없이 이어 붙임
+ *  - 세그먼트 = comment_id 를 36진수(0-9a-z) 7자리로 (36^7 ≈ 780억)
+ *  - 부모 키가 자식 키의 접두사 -> 문자열 정렬만으로 (부모, 자식, 손자, 다음 형제 ...) 순서
+ *  - 숫자 < 소문자만 사용 -> 대소문자 구분 없는 collation 에서도 순서 동일 (62진수는 대소문자가 섞여서 x)
+ *
+ * 이전 형식: %010d 세그먼트를 "->" 로 연결 (depth 5 면 70자 -> 새 형식은 42자)
+ * 이전 형식 키는 CommentSortKeyMigrationService 가 게시글 단위로 변환
+ * 두 형식은 서로 순서가 맞지 않음 (루트 12 = "0000000012" vs "000000c") -> 한 게시글 안에서는 항상 한 가지 형식만
+ * 변환 전 게시글에 달리는 댓글은 이전 형식으로 만들고, 변환할 때 같이 바뀜
+ */
+public final class CommentSortKey {
+
+    public static final int SEGMENT_LENGTH = 7;
+    private static final int RADIX = 36;
+    private static final long MAX_ID = (long) Math.pow(RADIX, SEGMENT_LENGTH) - 1;
+
+    private static final String LEGACY_SEPARATOR = "->";
+    private static final int LEGACY_SEGMENT_LENGTH = 10;
+
+    private CommentSortKey() {
+    }
+
+    public static String segment(long commentId) {
+        if (commentId < 0 || commentId > MAX_ID) {
+            throw new IllegalArgumentException("정렬 키로 표현할 수 없는 댓글 id 입니다: " + commentId);
+        }
+        String encoded = Long.toString(commentId, RADIX);
+        return "0".repeat(SEGMENT_LENGTH - encoded.length()) + encoded;
+    }
+
+    private static String legacySegment(long commentId) {
+        return String.format("%0" + LEGACY_SEGMENT_LENGTH + "d", commentId);
+    }
+
+    /**
+     * 새 댓글의 정렬 키, 루트 댓글이면 parentKey = null (새 형식)
+     * 부모가 아직 변환 전 키면 답글도 이전 형식 -> 같은 게시글의 다른 키와 순서가 맞음
+     */
+    public static String of(String parentKey, long commentId) {
+        if (parentKey == null) {
+            return segment(commentId);
+        }
+        if (isLegacy(parentKey)) {
+            return parentKey + LEGACY_SEPARATOR + legacySegment(commentId);
+        }
+        return parentKey + segment(commentId);
+    }
+
+    /**
+     * 루트 댓글 정렬 키, 게시글에 변환 전 키가 남아 있으면 이전 형식
+     */
+    public static String root(long commentId, boolean legacy) {
+        return legacy ? legacySegment(commentId) : segment(commentId);
+    }
+
+    /**
+     * 조상 댓글 키 (루트부터, 자기 자신 제외) = 세그먼트 단위 접두사
+     */
+    public static List<String> ancestorKeys(String sortKey) {
+        List<String> keys = new ArrayList<>();
+        if (isLegacy(sortKey)) {
+            for (int end = sortKey.indexOf(LEGACY_SEPARATOR); end >= 0; end = sortKey.indexOf(LEGACY_SEPARATOR, end + 1)) {
+                keys.add(sortKey.substring(0, end));
+            }
+            return keys;
+        }
+        for (int end = SEGMENT_LENGTH; end < sortKey.length(); end += SEGMENT_LENGTH) {
+            keys.add(sortKey.substring(0, end));
+        }
+        return keys;
+    }
+
+    /**
+     * 조상 댓글 id (루트부터, 자기 자신 제외)
+     */
+    public static List<Long> ancestorIds(String sortKey) {
+        return ancestorKeys(sortKey).stream()
+                .map(CommentSortKey::lastId)
+                .toList();
+    }
+
+    /**
+     * 하위 댓글 범위의 끝 (이 값은 포함 x)
+     * 하위 댓글 키 = sortKey + 세그먼트들 이므로 (sortKey, 마지막 세그먼트 + 1) 사이에 모두 들어감
+     * 구분 문자('~' 등) 를 붙이는 대신 다음 형제 키를 써서 collation 과 상관없이 범위가 같음
+     * 이전 형식도 같음 ("->" 의 '-' 가 숫자보다 앞이라 "..12->..." < "..13")
+     */
+    public static String subtreeEnd(String sortKey) {
+        if (isLegacy(sortKey)) {
+            int lastStart = sortKey.length() - LEGACY_SEGMENT_LENGTH;
+            return sortKey.substring(0, lastStart) + legacySegment(lastId(sortKey) + 1);
+        }
+        int lastStart = sortKey.length() - SEGMENT_LENGTH;
+        return sortKey.substring(0, lastStart) + segment(lastId(sortKey) + 1);
+    }
+
+    // 마지막 세그먼트 = 자기 댓글 id
+    private static long lastId(String sortKey) {
+        if (isLegacy(sortKey)) {
+            return Long.parseLong(sortKey.substring(sortKey.length() - LEGACY_SEGMENT_LENGTH));
+        }
+        return Long.parseLong(sortKey.substring(sortKey.length() - SEGMENT_LENGTH), RADIX);
+    }
+
+    /**
+     * 이전 형식 키: 루트 댓글은 10자리 숫자, 답글은 "->" 포함
+     */
+    public static boolean isLegacy(String sortKey) {
+        return sortKey.contains(LEGACY_SEPARATOR) || sortKey.length() == LEGACY_SEGMENT_LENGTH;
+    }
+
+    public static String fromLegacy(String legacyKey) {
+        StringBuilder converted = new StringBuilder();
+        for (String part : legacyKey.split(LEGACY_SEPARATOR)) {
+            converted.append(segment(Long.parseLong(part)));
+        }
+        return converted.toString();
+    }
+}
@@ -1,12 +1,14 @@
 package grpify.grpify.comment.dto;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
 @Getter
 @AllArgsConstructor
+@Builder(toBuilder = true)
 public class CommentQueryDto {
     private Long commentId;
     private String content;
@@ -20,5 +22,17 @@ public class CommentQueryDto {
     private Long parentCommentId;
     private int depth;
     private String parentAuthorName;
+    // 커서 페이징용 (다음 커서 = 마지막 댓글의 정렬 키)
+    private String sortKey;
+    // 하위 댓글 수 (접힌 답글 표시용)
+    private int replyCount;
+
+    // 정렬 키, 하위 댓글 수가 필요 없는 조회용
+    public CommentQueryDto(Long commentId, String content, Long authorId, String authorName, String profileImgUrl,
+                           int likeCount, Boolean isDeleted, LocalDateTime createdAt, LocalDateTime updatedAt,
+                           Long parentCommentId, int depth, String parentAuthorName) {
+        this(commentId, content, authorId, authorName, profileImgUrl, likeCount, isDeleted, createdAt, updatedAt,
+                parentCommentId, depth, parentAuthorName, null, 0);
+    }
 }
 
@@ -24,6 +24,8 @@ public class CommentsResponse {
     private final Long parentCommentId;
     private final String parentAuthorName;
     private final int depth;
+    // 하위 댓글 수, 0 보다 크면 답글 더보기 (GET /api/comments/{commentId}/replies)
+    private final int replyCount;
     private final boolean isLiked;
 
 
@@ -37,6 +39,7 @@ public class CommentsResponse {
                 .parentCommentId(dto.getParentCommentId())
                 .parentAuthorName(dto.getParentAuthorName())
                 .depth(dto.getDepth())
+                .replyCount(dto.getReplyCount())
                 .isLiked(isLiked); // 따로 받아왔음
 
 
@@ -0,0 +1,18 @@
+package grpify.grpify.comment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 정렬 키 변환 실행 결과 (관리자 조회용)
+ * completed = false 면 max-batches 에서 멈춘 것 -> 다시 실행하면 이어서 진행
+ */
+@Getter
+@Builder
+public class SortKeyMigrationResponse {
+    private long posts;
+    private long comments;
+    private int batches;
+    private boolean completed;
+    private long elapsedMs;
+}
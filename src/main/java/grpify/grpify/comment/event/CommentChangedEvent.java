@@ -0,0 +1,13 @@
+package grpify.grpify.comment.event;
+
+/**
+ * 댓글 작성/수정/삭제 이벤트 (트랜잭션 커밋 후 검색 인덱스, 순위 인덱스 갱신 등에 사용)
+ */
+public record CommentChangedEvent(Long postId, Long commentId, String sortKey, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -3,20 +3,36 @@ package grpify.grpify.comment.repository;
 import grpify.grpify.comment.domain.Comment;
 
 import grpify.grpify.comment.dto.CommentQueryDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Optional<Comment> findByIdAndIsDeletedFalse(Long id);
 
+    /**
+     * 댓글, 게시글, 게시판이 모두 살아있는 경우만 조회
+     * 게시글/게시판 삭제 시 하위 댓글은 바로 수정하지 않음 -> 읽을 때 부모 상태로 판단
+     */
+    @Query("""
+            SELECT c FROM Comment c
+            JOIN c.post p
+            JOIN p.board b
+            WHERE c.id = :commentId AND c.isDeleted = false AND p.isDeleted = false AND b.isDeleted = false
+            """)
+    Optional<Comment> findLiveById(@Param("commentId") Long commentId);
+
 
 
     /**
@@ -136,15 +152,191 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             LEFT JOIN c.author a
             LEFT JOIN c.parentComment pc
             LEFT JOIN pc.author pa
+            JOIN c.post p
+            JOIN p.board b
             WHERE c.post.id = :postId
+            AND p.isDeleted = false AND b.isDeleted = false
             ORDER BY c.sortKey
             """
     )//left join 사용 이유?
+    // 삭제된 댓글은 "삭제된 댓글입니다" 로 보여줘야 해서 포함, 게시글/게시판이 삭제됐으면 전부 제외
     Page<CommentQueryDto> findCommentsByPostId(
             @Param("postId") Long postId,
             Pageable pageable
     );
 
+    // 위 쿼리의 키셋 버전, afterSortKey 다음부터 (첫 페이지는 "")
+    // (post_id, sort_key) 인덱스에서 바로 시작 -> 페이지 깊이와 상관없이 일정한 비용, COUNT x
+    // pageable 은 limit 용도로만 사용
+    @Query("""
+            SELECT new grpify.grpify.comment.dto.CommentQueryDto(
+                c.id,
+                c.content,
+                a.id,
+                a.name,
+                a.profileImgUrl,
+                c.likeCount,
+                c.isDeleted,
+                c.createdAt,
+                c.updatedAt,
+                pc.id,
+                c.depth,
+                pa.name,
+                c.sortKey,
+                c.replyCount
+            )
+            FROM Comment c
+            LEFT JOIN c.author a
+            LEFT JOIN c.parentComment pc
+            LEFT JOIN pc.author pa
+            JOIN c.post p
+            JOIN p.board b
+            WHERE c.post.id = :postId AND c.sortKey > :afterSortKey
+            AND p.isDeleted = false AND b.isDeleted = false
+            ORDER BY c.sortKey
+            """)
+    List<CommentQueryDto> findCommentsByPostIdAfter(@Param("postId") Long postId,
+                                                    @Param("afterSortKey") String afterSortKey,
+                                                    Pageable pageable);
+
+    // 댓글 한 건 (CommentThreadCache 의 작성/수정 반영용), 목록 조회와 같은 형태
+    @Query("""
+            SELECT new grpify.grpify.comment.dto.CommentQueryDto(
+                c.id,
+                c.content,
+                a.id,
+                a.name,
+                a.profileImgUrl,
+                c.likeCount,
+                c.isDeleted,
+                c.createdAt,
+                c.updatedAt,
+                pc.id,
+                c.depth,
+                pa.name,
+                c.sortKey,
+                c.replyCount
+            )
+            FROM Comment c
+            LEFT JOIN c.author a
+            LEFT JOIN c.parentComment pc
+            LEFT JOIN pc.author pa
+            WHERE c.id = :commentId
+            """)
+    Optional<CommentQueryDto> findCommentQueryDtoById(@Param("commentId") Long commentId);
+
+    // 루트 댓글만 (답글은 replyCount 로 개수만), (post_id, depth, sort_key) 인덱스로 afterSortKey 다음부터
+    @Query("""
+            SELECT new grpify.grpify.comment.dto.CommentQueryDto(
+                c.id,
+                c.content,
+                a.id,
+                a.name,
+                a.profileImgUrl,
+                c.likeCount,
+                c.isDeleted,
+                c.createdAt,
+                c.updatedAt,
+                pc.id,
+                c.depth,
+                pa.name,
+                c.sortKey,
+                c.replyCount
+            )
+            FROM Comment c
+            LEFT JOIN c.author a
+            LEFT JOIN c.parentComment pc
+            LEFT JOIN pc.author pa
+            JOIN c.post p
+            JOIN p.board b
+            WHERE c.post.id = :postId AND c.depth = 0 AND c.sortKey > :afterSortKey
+            AND p.isDeleted = false AND b.isDeleted = false
+            ORDER BY c.sortKey
+            """)
+    List<CommentQueryDto> findRootCommentsByPostIdAfter(@Param("postId") Long postId,
+                                                        @Param("afterSortKey") String afterSortKey,
+                                                        Pageable pageable);
+
+    // 한 댓글의 하위 댓글 전체, 정렬 키 범위 (afterSortKey, subtreeEnd) -> (post_id, sort_key) 인덱스 범위 스캔
+    @Query("""
+            SELECT new grpify.grpify.comment.dto.CommentQueryDto(
+                c.id,
+                c.content,
+                a.id,
+                a.name,
+                a.profileImgUrl,
+                c.likeCount,
+                c.isDeleted,
+                c.createdAt,
+                c.updatedAt,
+                pc.id,
+                c.depth,
+                pa.name,
+                c.sortKey,
+                c.replyCount
+            )
+            FROM Comment c
+            LEFT JOIN c.author a
+            LEFT JOIN c.parentComment pc
+            LEFT JOIN pc.author pa
+            JOIN c.post p
+            JOIN p.board b
+            WHERE c.post.id = :postId AND c.sortKey > :afterSortKey AND c.sortKey < :subtreeEnd
+            AND p.isDeleted = false AND b.isDeleted = false
+            ORDER BY c.sortKey
+            """)
+    List<CommentQueryDto> findRepliesInRange(@Param("postId") Long postId,
+                                             @Param("afterSortKey") String afterSortKey,
+                                             @Param("subtreeEnd") String subtreeEnd,
+                                             Pageable pageable);
+
+    /**
+     * 게시글 댓글 전체를 정렬 키 순서로 스트리밍 (관리자 내보내기용), 삭제된 댓글도 원래 내용 그대로
+     * MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 한 번에 받지 않고 한 row 씩 읽음
+     * -> 댓글 수와 상관없이 메모리 일정, DTO 프로젝션이라 영속성 컨텍스트에도 쌓이지 않음
+     * 트랜잭션 안에서 소비하고 닫아야 함 (try-with-resources)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            SELECT new grpify.grpify.comment.dto.CommentQueryDto(
+                c.id,
+                c.content,
+                a.id,
+                a.name,
+                a.profileImgUrl,
+                c.likeCount,
+                c.isDeleted,
+                c.createdAt,
+                c.updatedAt,
+                pc.id,
+                c.depth,
+                pa.name,
+                c.sortKey,
+                c.replyCount
+            )
+            FROM Comment c
+            LEFT JOIN c.author a
+            LEFT JOIN c.parentComment pc
+            LEFT JOIN pc.author pa
+            WHERE c.post.id = :postId
+            ORDER BY c.sortKey
+            """)
+    Stream<CommentQueryDto> streamCommentsByPostId(@Param("postId") Long postId);
+
+    // 게시글의 정렬 키 전체 (CommentRankIndex 적재용), (post_id, sort_key) 인덱스만으로 조회
+    @Query("SELECT c.sortKey FROM Comment c WHERE c.post.id = :postId ORDER BY c.sortKey")
+    List<String> findSortKeysByPostId(@Param("postId") Long postId);
+
+    // 게시글의 첫 정렬 키 (PageRequest.of(0, 1)), 정렬 키 형식 확인용
+    @Query("SELECT c.sortKey FROM Comment c WHERE c.post.id = :postId ORDER BY c.sortKey")
+    List<String> findSortKeysByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // afterSortKey 다음 정렬 키부터 (CommentRankIndex 표본 적재, 표본 키에서 이어서 찾기), (post_id, sort_key) 인덱스만으로 조회
+    @Query("SELECT c.sortKey FROM Comment c WHERE c.post.id = :postId AND c.sortKey > :afterSortKey ORDER BY c.sortKey")
+    List<String> findSortKeysByPostIdAfter(@Param("postId") Long postId,
+                                           @Param("afterSortKey") String afterSortKey,
+                                           Pageable pageable);
+
 
 
     /**
@@ -157,14 +349,17 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      *    2. sort_key 기준 range scan
      *    3. 인덱스만으로 COUNT 완료 (커버링 인덱스)
      *
-     *    TODO:
      *    인덱스 키의 크기가 클수록 하나의 인덱스 페이지에 저장할 수 있는 키의 수가 적어지는 것으로 알고있는데 현재의 sort_key 가 너무 크지는 않을까?
-     *    비교해보고 성능차이 크다면 sortKey 길이 제한, depth 제한 필요할 듯...
+     *    -> %010d + "->" (세그먼트당 12자) 에서 36진수 7자 고정 길이 (구분자 x) 로 변경 (CommentSortKey)
+     *       depth 5 기준 70자 -> 42자, 비교는 CommentSortKeyBenchmark 참고
      *    UI 문제로 어차피 depth 제한 해야함. -> ui 제작 해보고 가능한 depth에 따라 조정하면 될 듯??
      *
      */
     long countByPost_IdAndSortKeyLessThanEqual(Long postId, String sortKey);
 
+    // 게시글의 댓글 수 (삭제 표시 포함, 정렬 키 수와 같음), (post_id, sort_key) 인덱스만으로
+    long countByPost_Id(Long postId);
+
 
 
     /**
@@ -215,6 +410,28 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             """, nativeQuery = true)
     int bulkSoftDeleteByBoardIdBatch(@Param("boardId") Long boardId,
                                      @Param("batchSize") int batchSize);
+
+    // 좋아요 응답용, 댓글/게시글/게시판이 삭제됐으면 empty
+    @Query("""
+            SELECT c.likeCount FROM Comment c
+            WHERE c.id = :commentId AND c.isDeleted = false
+            AND c.post.isDeleted = false AND c.post.board.isDeleted = false
+            """)
+    Optional<Integer> findLiveLikeCount(@Param("commentId") Long commentId);
+
+    /**
+     * 삭제된 게시글의 댓글을 뒤늦게 삭제 표시 (TombstoneSweeper)
+     * JOIN 이 있는 UPDATE 는 LIMIT 사용 불가 -> 서브쿼리로 작성
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE comment
+            SET is_deleted = 1, updated_at = NOW()
+            WHERE is_deleted = 0
+            AND post_id IN (SELECT post_id FROM post WHERE is_deleted = 1)
+            LIMIT :batchSize
+            """, nativeQuery = true)
+    int sweepCommentsOfDeletedPosts(@Param("batchSize") int batchSize);
 }
 
 
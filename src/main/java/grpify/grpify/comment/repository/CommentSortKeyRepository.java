@@ -0,0 +1,105 @@
+package grpify.grpify.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이전 형식 정렬 키 (%010d + "->") 변환, 하위 댓글 수 재계산용 (CommentSortKeyMigrationService)
+ * 이전 형식 조건: "->" 포함(답글) or 10자(루트 댓글), 새 형식은 항상 7의 배수 길이
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentSortKeyRepository {
+
+    private static final String LEGACY_CONDITION = "(sort_key LIKE '%->%' OR CHAR_LENGTH(sort_key) = 10)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record SortKeyRow(long commentId, String sortKey) {
+    }
+
+    public record ReplyCountRow(long commentId, long postId, String sortKey, int replyCount) {
+    }
+
+    public record ReplyCountFix(long commentId, int stored, int expected) {
+    }
+
+    /**
+     * afterPostId 다음부터 이전 형식 키가 남은 게시글 id
+     * post_id 순서로 앞으로만 진행 -> (post_id, sort_key) 인덱스를 배치마다 처음부터 다시 읽지 않음
+     */
+    public List<Long> findPostIdsWithLegacyKeys(long afterPostId, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT post_id FROM comment
+                WHERE post_id > :afterPostId AND %s
+                ORDER BY post_id
+                LIMIT :limit
+                """.formatted(LEGACY_CONDITION),
+                Map.of("afterPostId", afterPostId, "limit", limit), Long.class);
+    }
+
+    public List<SortKeyRow> findLegacyKeys(Collection<Long> postIds) {
+        return jdbcTemplate.query("""
+                SELECT comment_id, sort_key FROM comment
+                WHERE post_id IN (:postIds) AND %s
+                """.formatted(LEGACY_CONDITION),
+                new MapSqlParameterSource("postIds", postIds),
+                (rs, rowNum) -> new SortKeyRow(rs.getLong("comment_id"), rs.getString("sort_key")));
+    }
+
+    // afterPostId 다음부터 댓글이 있는 게시글 id (하위 댓글 수 재계산용)
+    public List<Long> findPostIdsWithComments(long afterPostId, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT post_id FROM comment
+                WHERE post_id > :afterPostId
+                ORDER BY post_id
+                LIMIT :limit
+                """,
+                Map.of("afterPostId", afterPostId, "limit", limit), Long.class);
+    }
+
+    // 게시글들의 댓글 전체 (하위 댓글 수 재계산용), (post_id, sort_key) 인덱스 순서로 한 번만 읽음
+    public List<ReplyCountRow> findReplyCountRows(Collection<Long> postIds) {
+        return jdbcTemplate.query("""
+                SELECT comment_id, post_id, sort_key, reply_count FROM comment
+                WHERE post_id IN (:postIds)
+                ORDER BY post_id, sort_key
+                """,
+                new MapSqlParameterSource("postIds", postIds),
+                (rs, rowNum) -> new ReplyCountRow(
+                        rs.getLong("comment_id"), rs.getLong("post_id"), rs.getString("sort_key"), rs.getInt("reply_count")));
+    }
+
+    /**
+     * 읽은 뒤 값이 바뀌지 않은 row 만 수정 (그사이 반영된 답글 증감량을 덮어쓰지 않음)
+     * @return 수정된 댓글 수
+     */
+    public int updateReplyCounts(List<ReplyCountFix> fixes) {
+        SqlParameterSource[] params = fixes.stream()
+                .map(fix -> new MapSqlParameterSource()
+                        .addValue("commentId", fix.commentId())
+                        .addValue("stored", fix.stored())
+                        .addValue("expected", fix.expected()))
+                .toArray(SqlParameterSource[]::new);
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE comment SET reply_count = :expected WHERE comment_id = :commentId AND reply_count = :stored", params);
+        return Arrays.stream(updated).map(count -> Math.max(count, 0)).sum();
+    }
+
+    public void updateSortKeys(List<SortKeyRow> rows) {
+        SqlParameterSource[] params = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("commentId", row.commentId())
+                        .addValue("sortKey", row.sortKey()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("UPDATE comment SET sort_key = :sortKey WHERE comment_id = :commentId", params);
+    }
+}
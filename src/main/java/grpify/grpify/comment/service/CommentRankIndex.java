@@ -0,0 +1,352 @@
+package grpify.grpify.comment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import grpify.grpify.archive.event.CommentsArchivedEvent;
+import grpify.grpify.comment.event.CommentChangedEvent;
+import grpify.grpify.comment.repository.CommentRepository;
+import grpify.grpify.post.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글별 댓글 정렬 키 순위 인덱스 (order-statistic treap)
+ *
+ * 댓글 작성/수정 후 페이지 번호 계산에 COUNT(sort_key <= ?) 를 쓰면 댓글 수에 비례해서 느려짐
+ * -> 게시글의 정렬 키를 메모리 트리에 올려두고 순위(rank), k 번째 키(keyAt) 를 O(log n) 으로 계산
+ *
+ *  - 적재: 목록 조회(keyAt, size) 에서 처음 볼 때 게시글의 정렬 키 전체를 (post_id, sort_key) 인덱스로 한 번에 읽음
+ *          쓰기 트랜잭션(rank) 에서는 적재 x -> 커밋 전 키가 트리에 들어가지 않음
+ *  - 갱신: 댓글 작성 커밋 후 CommentChangedEvent 로 키 추가 (삭제는 soft delete 라 키가 그대로 남음)
+ *  - 크기: 전체 키 수 기준 (grpify.comment.rank-index.max-keys)
+ *  - 큰 게시글: 키가 max-tree-size 보다 많으면 트리 대신 sample-stride 개마다 표본 키와 구간별 키 수만 보관 (SampledKeys)
+ *          keyAt 은 가까운 표본 키부터 이어서 조회 -> OFFSET 이 구간 크기를 넘지 않음
+ *  - 제거: 게시글 삭제, 보관 작업으로 댓글 row 가 지워졌을 때 무효화, 일정 시간 조회 없으면 만료
+ */
+@Component
+public class CommentRankIndex {
+
+    private final Cache<Long, KeyIndex> cache;
+    private final CommentRepository commentRepository;
+    private final int maxTreeSize;
+    private final int sampleStride;
+
+    public CommentRankIndex(CommentRepository commentRepository,
+                            @Value("${grpify.comment.rank-index.max-keys:2000000}") long maxKeys,
+                            @Value("${grpify.comment.rank-index.max-tree-size:50000}") int maxTreeSize,
+                            @Value("${grpify.comment.rank-index.sample-stride:1000}") int sampleStride,
+                            @Value("${grpify.comment.rank-index.idle-minutes:30}") long idleMinutes) {
+        this.commentRepository = commentRepository;
+        this.maxTreeSize = maxTreeSize;
+        this.sampleStride = sampleStride;
+        // 가중치는 보관 중인 키 수 (트리는 전체 키, 표본은 구간 수), 키 추가(computeIfPresent) 때마다 다시 계산
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxKeys)
+                .weigher((Long postId, KeyIndex index) -> Math.max(1, index.weight()))
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * sortKey 의 1부터 시작하는 순위 (sortKey 가 아직 트리에 없어도 있다고 보고 계산)
+     * 댓글 작성/수정 트랜잭션 안에서 호출 -> 적재된 트리(커밋된 키) 가 있을 때만 사용하고 새로 적재하지 않음
+     * 트리가 없으면 COUNT 쿼리 (같은 트랜잭션이라 방금 저장한 댓글도 포함)
+     */
+    public long rank(Long postId, String sortKey) {
+        if (cache.getIfPresent(postId) instanceof RankTree tree) {
+            return tree.countLess(sortKey) + 1;
+        }
+        return commentRepository.countByPost_IdAndSortKeyLessThanEqual(postId, sortKey);
+    }
+
+    /**
+     * 0부터 시작하는 index 번째 정렬 키, 범위를 벗어나면 null
+     * 큰 게시글은 index 가 들어있는 구간의 직전 표본 키 다음부터 구간 안 위치만큼 건너뛰어 조회
+     */
+    public String keyAt(Long postId, long index) {
+        KeyIndex keyIndex = keyIndex(postId);
+        if (keyIndex instanceof RankTree tree) {
+            return tree.keyAt(index);
+        }
+        SampledKeys.Seek seek = ((SampledKeys) keyIndex).seek(index);
+        if (seek == null) {
+            return null;
+        }
+        List<String> keys = commentRepository.findSortKeysByPostIdAfter(
+                postId, seek.afterKey(), PageRequest.of(seek.offset(), 1));
+        return keys.isEmpty() ? null : keys.get(0);
+    }
+
+    public long size(Long postId) {
+        KeyIndex keyIndex = keyIndex(postId);
+        return keyIndex instanceof RankTree tree ? tree.size() : commentRepository.countByPost_Id(postId);
+    }
+
+    public void invalidate(Collection<Long> postIds) {
+        cache.invalidateAll(postIds);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private KeyIndex keyIndex(Long postId) {
+        return cache.get(postId, this::load);
+    }
+
+    private KeyIndex load(Long postId) {
+        List<String> keys = commentRepository.findSortKeysByPostId(postId, PageRequest.of(0, maxTreeSize + 1));
+        if (keys.size() <= maxTreeSize) {
+            RankTree tree = new RankTree();
+            keys.forEach(tree::insert);
+            return tree;
+        }
+        return sample(postId, keys);
+    }
+
+    // 처음 읽은 키에 이어서 (post_id, sort_key) 인덱스를 sample-stride 개씩 끝까지 훑으며 구간 경계만 남김
+    private SampledKeys sample(Long postId, List<String> firstKeys) {
+        List<String> bounds = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        String last = "";
+        for (int from = 0; from < firstKeys.size(); from += sampleStride) {
+            List<String> chunk = firstKeys.subList(from, Math.min(from + sampleStride, firstKeys.size()));
+            bounds.add(last);
+            counts.add(chunk.size());
+            last = chunk.get(chunk.size() - 1);
+        }
+        List<String> chunk;
+        while (!(chunk = commentRepository.findSortKeysByPostIdAfter(postId, last, PageRequest.of(0, sampleStride))).isEmpty()) {
+            bounds.add(last);
+            counts.add(chunk.size());
+            last = chunk.get(chunk.size() - 1);
+        }
+        return new SampledKeys(bounds, counts);
+    }
+
+    /**
+     * 적재 중인 게시글이면 적재가 끝날 때까지 기다렸다가 추가 (트리는 이미 읽힌 키면 무시)
+     * 트리가 max-tree-size 를 넘거나 표본 구간 하나가 sample-stride 의 2배를 넘으면 버림 -> 다음 조회 때 표본으로 다시 적재
+     * (표본은 키 자체가 없어 적재와 겹친 댓글을 두 번 셀 수 있음, 다시 적재할 때 바로잡힘)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.type() != CommentChangedEvent.Type.CREATED) {
+            return;
+        }
+        cache.asMap().computeIfPresent(event.postId(), (id, keyIndex) -> switch (keyIndex) {
+            case RankTree tree -> {
+                tree.insert(event.sortKey());
+                yield tree.size() > maxTreeSize ? null : tree;
+            }
+            case SampledKeys sampled -> sampled.insert(event.sortKey()) > 2 * sampleStride ? null : sampled;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            cache.invalidate(event.postId());
+        }
+    }
+
+    // 보관 작업으로 댓글 row 가 지워지면 순위가 바뀜
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentsArchived(CommentsArchivedEvent event) {
+        cache.invalidateAll(event.postIds());
+    }
+
+    sealed interface KeyIndex permits RankTree, SampledKeys {
+        // 캐시 가중치
+        int weight();
+    }
+
+    /**
+     * 큰 게시글의 표본: 구간 i 는 (bounds[i], bounds[i + 1]] 범위의 키 counts[i] 개 (bounds[0] = "")
+     * 키 추가는 해당 구간 수만 +1 -> 구간 경계 키는 그대로라 이어서 조회하는 위치가 어긋나지 않음
+     */
+    static final class SampledKeys implements KeyIndex {
+
+        record Seek(String afterKey, int offset) {
+        }
+
+        private final String[] bounds;
+        private final int[] counts;
+
+        SampledKeys(List<String> bounds, List<Integer> counts) {
+            this.bounds = bounds.toArray(String[]::new);
+            this.counts = counts.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // 키가 들어간 구간의 키 수
+        synchronized int insert(String key) {
+            int found = Arrays.binarySearch(bounds, key);
+            int bucket = found >= 0 ? found - 1 : -found - 2;
+            return ++counts[Math.max(bucket, 0)];
+        }
+
+        // index 번째 키를 찾을 시작 위치 (afterKey 다음부터 offset 개 건너뜀), 범위를 벗어나면 null
+        synchronized Seek seek(long index) {
+            if (index < 0) {
+                return null;
+            }
+            long remaining = index;
+            for (int i = 0; i < counts.length; i++) {
+                if (remaining < counts[i]) {
+                    return new Seek(bounds[i], (int) remaining);
+                }
+                remaining -= counts[i];
+            }
+            return null;
+        }
+
+        @Override
+        public int weight() {
+            return bounds.length;
+        }
+    }
+
+    /**
+     * 노드마다 서브트리 크기를 들고 있는 treap
+     * 키 순서로는 이진 탐색 트리, 무작위 우선순위로는 힙 -> 기대 높이 O(log n)
+     * 트리 하나에 대한 읽기/쓰기는 synchronized (연산이 짧아서 게시글 단위 락으로 충분)
+     */
+    static final class RankTree implements KeyIndex {
+
+        private Node root;
+
+        private static final class Node {
+            private final String key;
+            private final int priority = ThreadLocalRandom.current().nextInt();
+            private int size = 1;
+            private Node left;
+            private Node right;
+
+            private Node(String key) {
+                this.key = key;
+            }
+        }
+
+        synchronized boolean insert(String key) {
+            if (contains(key)) {
+                return false;
+            }
+            Node[] parts = split(root, key);
+            root = merge(merge(parts[0], new Node(key)), parts[1]);
+            return true;
+        }
+
+        synchronized int size() {
+            return size(root);
+        }
+
+        @Override
+        public int weight() {
+            return size();
+        }
+
+        // key 보다 작은 키의 수
+        synchronized long countLess(String key) {
+            long count = 0;
+            Node node = root;
+            while (node != null) {
+                if (key.compareTo(node.key) <= 0) {
+                    node = node.left;
+                } else {
+                    count += size(node.left) + 1;
+                    node = node.right;
+                }
+            }
+            return count;
+        }
+
+        synchronized String keyAt(long index) {
+            if (index < 0 || index >= size(root)) {
+                return null;
+            }
+            Node node = root;
+            long remaining = index;
+            while (true) {
+                int leftSize = size(node.left);
+                if (remaining < leftSize) {
+                    node = node.left;
+                } else if (remaining == leftSize) {
+                    return node.key;
+                } else {
+                    remaining -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        private boolean contains(String key) {
+            Node node = root;
+            while (node != null) {
+                int cmp = key.compareTo(node.key);
+                if (cmp == 0) {
+                    return true;
+                }
+                node = cmp < 0 ? node.left : node.right;
+            }
+            return false;
+        }
+
+        // [key 보다 작은 키, key 이상인 키] 로 분리
+        private static Node[] split(Node node, String key) {
+            if (node == null) {
+                return new Node[]{null, null};
+            }
+            if (node.key.compareTo(key) < 0) {
+                Node[] parts = split(node.right, key);
+                node.right = parts[0];
+                update(node);
+                return new Node[]{node, parts[1]};
+            }
+            Node[] parts = split(node.left, key);
+            node.left = parts[1];
+            update(node);
+            return new Node[]{parts[0], node};
+        }
+
+        // left 의 모든 키 < right 의 모든 키
+        private static Node merge(Node left, Node right) {
+            if (left == null) {
+                return right;
+            }
+            if (right == null) {
+                return left;
+            }
+            if (left.priority > right.priority) {
+                left.right = merge(left.right, right);
+                update(left);
+                return left;
+            }
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+        }
+
+        private static void update(Node node) {
+            node.size = size(node.left) + size(node.right) + 1;
+        }
+
+        private static int size(Node node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+}
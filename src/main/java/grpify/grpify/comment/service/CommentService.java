@@ -1,11 +1,21 @@
 package grpify.grpify.comment.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import grpify.grpify.comment.domain.Comment;
+import grpify.grpify.comment.domain.CommentSortKey;
 import grpify.grpify.comment.dto.*;
+import grpify.grpify.comment.event.CommentChangedEvent;
 import grpify.grpify.comment.repository.CommentRepository;
 import grpify.grpify.commentLike.domain.CommentLike;
 import grpify.grpify.commentLike.dto.LikeResponse;
 import grpify.grpify.commentLike.repository.CommentLikeRepository;
+import grpify.grpify.common.dto.CursorResponse;
+import grpify.grpify.common.counter.CounterBuffer;
+import grpify.grpify.common.counter.CounterType;
+import grpify.grpify.common.like.LikeChangedEvent;
+import grpify.grpify.common.like.LikeTarget;
+import grpify.grpify.common.like.LikedIdsCache;
 import grpify.grpify.common.exception.NotFoundException;
 import grpify.grpify.post.domain.Post;
 import grpify.grpify.post.dto.PostResponse;
@@ -17,15 +27,22 @@ import grpify.grpify.user.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.annotations.SQLRestriction;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Service
@@ -37,36 +54,131 @@ public class CommentService {
     private final CommentLikeRepository commentLikeRepository;
     private final PostService postService;
     private final UserService userService;
+    private final CounterBuffer counterBuffer;
+    private final CommentRankIndex commentRankIndex;
+    private final CommentThreadCache commentThreadCache;
+    private final LikedIdsCache likedIdsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
     @Transactional(readOnly = true) // 리턴 타입 page, list 고민해보기
     public Page<CommentsResponse> findCommentsByPost(Long postId, Long currentUserId, Pageable pageable) {
 
 //      Page<CommentQueryDto> queryResultPage = commentRepository.findCommentHierarchyByPostId(postId, pageable);
-        Page<CommentQueryDto> queryResultPage = commentRepository.findCommentsByPostId(postId, pageable);
+//      Page<CommentQueryDto> queryResultPage = commentRepository.findCommentsByPostId(postId, pageable);
+        long offset = pageable.getOffset();
+        Page<CommentQueryDto> queryResultPage;
+
+        // 자주 보는 게시글은 캐시된 댓글 목록에서 잘라서 반환 (조인 쿼리 x)
+        CommentThreadCache.CommentThread thread = commentThreadCache.get(postId);
+        if (thread != null) {
+            queryResultPage = new PageImpl<>(thread.slice(offset, pageable.getPageSize()), pageable, thread.size());
+        } else {
+            // N 페이지로 바로 이동: 순위 인덱스에서 페이지 직전 정렬 키를 찾아 그 다음부터 조회 (OFFSET, COUNT 쿼리 x)
+            String afterSortKey = offset == 0 ? "" : commentRankIndex.keyAt(postId, offset - 1);
+            if (afterSortKey == null) {
+                return Page.empty(pageable);
+            }
+            List<CommentQueryDto> rows = commentRepository.findCommentsByPostIdAfter(
+                    postId, afterSortKey, PageRequest.of(0, pageable.getPageSize()));
+            queryResultPage = new PageImpl<>(rows, pageable, commentRankIndex.size(postId));
+        }
         if (queryResultPage.getContent().isEmpty()) {
             // 빈 리스트 담긴 Page 객체 리턴
             return Page.empty(pageable);
         }
 
-        // commentId 추출
-        List<Long> commentIds = queryResultPage.stream()
-                .map(CommentQueryDto::getCommentId)
-                .toList();
-
-        // SELECT cl.comment.id
-        // FROM CommentLike cl
-        // WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds
-        // currentUser 의 댓글 좋아요 set 가져와서 현재 게시물 댓글들과 대조
-        Set<Long> likedCommentIds = commentLikeRepository.findLikedComments(currentUserId, commentIds);
+        // currentUser 의 댓글 좋아요 id 캐시와 대조 (페이지마다 IN 쿼리 x)
+        LongPredicate liked = likedIdsCache.likedBy(LikeTarget.COMMENT, currentUserId);
 
         // 생성자 메서드에 is_deleted 체크 로직 포함
         return queryResultPage.map(dto ->
-            CommentsResponse.from(dto, likedCommentIds.contains(dto.getCommentId()))
+            CommentsResponse.from(dto, liked.test(dto.getCommentId()))
         );
 
     }
 
 
+    /**
+     * 댓글 목록 (커서 방식, 무한 스크롤용)
+     * 커서 = 마지막으로 본 댓글의 정렬 키, 첫 페이지는 after = ""
+     * size + 1 개 조회해서 다음 페이지 여부 판단 -> COUNT 쿼리 x
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentsResponse> findCommentsByPostCursor(Long postId, Long currentUserId, String after, int size) {
+        CommentThreadCache.CommentThread thread = commentThreadCache.get(postId);
+        List<CommentQueryDto> rows = thread != null
+                ? thread.sliceAfter(after, size + 1)
+                : commentRepository.findCommentsByPostIdAfter(postId, after, PageRequest.of(0, size + 1));
+
+        LongPredicate liked = likedIdsCache.likedBy(LikeTarget.COMMENT, currentUserId);
+        return CursorResponse.of(rows, size, CommentQueryDto::getSortKey)
+                .map(dto -> CommentsResponse.from(dto, liked.test(dto.getCommentId())));
+    }
+
+
+    /**
+     * 루트 댓글 목록 (커서 방식), 답글은 펼칠 때 findReplies 로
+     * 한 댓글의 답글이 길어도 한 페이지를 다 차지하지 않음
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentsResponse> findRootComments(Long postId, Long currentUserId, String after, int size) {
+        List<CommentQueryDto> rows = commentRepository.findRootCommentsByPostIdAfter(
+                postId, after, PageRequest.of(0, size + 1));
+
+        LongPredicate liked = likedIdsCache.likedBy(LikeTarget.COMMENT, currentUserId);
+        return CursorResponse.of(rows, size, CommentQueryDto::getSortKey)
+                .map(dto -> CommentsResponse.from(dto, liked.test(dto.getCommentId())));
+    }
+
+    /**
+     * 한 댓글의 하위 댓글 (커서 방식, 정렬 키 순서라 답글의 답글도 계층 순서대로)
+     * 삭제된 댓글의 답글도 조회 가능 ("삭제된 댓글입니다" 로 남아있으므로)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentsResponse> findReplies(Long commentId, Long currentUserId, String after, int size) {
+        Comment parent = commentRepository.findById(commentId)
+                .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
+
+        String parentKey = parent.getSortKey();
+        // 커서가 범위 앞이면 처음부터
+        String afterSortKey = after.compareTo(parentKey) > 0 ? after : parentKey;
+        List<CommentQueryDto> rows = commentRepository.findRepliesInRange(
+                parent.getPost().getId(), afterSortKey, CommentSortKey.subtreeEnd(parentKey), PageRequest.of(0, size + 1));
+
+        LongPredicate liked = likedIdsCache.likedBy(LikeTarget.COMMENT, currentUserId);
+        return CursorResponse.of(rows, size, CommentQueryDto::getSortKey)
+                .map(dto -> CommentsResponse.from(dto, liked.test(dto.getCommentId())));
+    }
+
+
+    /**
+     * 내보내기 전 게시글 확인 (스트리밍이 시작되면 응답 코드를 바꿀 수 없으므로 먼저)
+     */
+    @Transactional(readOnly = true)
+    public void checkExportable(Long postId) {
+        postService.findById(postId);
+    }
+
+    /**
+     * 게시글 댓글 전체를 정렬 키 순서로 NDJSON (한 줄에 댓글 하나) 으로 출력
+     * 페이지 API 를 여러 번 부르는 대신 커서 하나로 끝까지 읽으면서 바로 씀 -> 댓글 수와 상관없이 메모리 일정
+     * 스트림이 열려 있는 동안 커넥션을 잡고 있으므로 트랜잭션은 출력이 끝날 때까지
+     */
+    @Transactional(readOnly = true)
+    public void exportComments(Long postId, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(CommentQueryDto.class);
+        try (Stream<CommentQueryDto> rows = commentRepository.streamCommentsByPostId(postId)) {
+            Iterator<CommentQueryDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+            }
+        }
+        out.flush();
+    }
+
+
     /**
      * 댓글 작성 후에 리턴 타입, 리디렉션 시나리오 생각해서 변경해보기
      * PostService 처럼 읽기 쓰기 책임 분리
@@ -102,15 +214,29 @@ public class CommentService {
 
         commentRepository.save(newComment); // @GeneratedValue = IDENTITY 이므로 save 호출 즉시 insert 쿼리 실행(쓰기 지연 X) 되어 commentId 생성
 
-        String selfKey = String.format("%010d", newComment.getId());
-        sortKey = (parent != null) ? parent.getSortKey() + "->" + selfKey : selfKey;
+        // 조상 id 들을 고정 길이(7자) 세그먼트로 이어 붙임 (CommentSortKey)
+        // 정렬 키 변환 전 게시글이면 기존 키와 순서가 맞도록 이전 형식 (답글은 부모 키 형식을 따름)
+        sortKey = parent != null
+                ? CommentSortKey.of(parent.getSortKey(), newComment.getId())
+                : CommentSortKey.root(newComment.getId(), hasLegacySortKeys(post.getId()));
 
         newComment.setSortKey(sortKey); // sortKey 설정 (계층 구조 포함)
 
-        postService.incrementCommentCount(post.getId());
+        // 답글이면 조상 댓글 전부 하위 댓글 수 +1 (id 는 정렬 키 세그먼트에서)
+        // 버퍼에 모아서 반영, 커밋 후에 더함 -> 루트 댓글 row 를 트랜잭션 끝까지 잠그지 않음
+        if (parent != null) {
+            for (Long ancestorId : CommentSortKey.ancestorIds(sortKey)) {
+                counterBuffer.addAfterCommit(CounterType.COMMENT_REPLY, ancestorId, 1);
+            }
+        }
+
+        // 댓글 수는 버퍼에 모아서 반영 (post row 를 트랜잭션 끝까지 잠그지 않도록, 인기 점수/목록 캐시는 반영 시 갱신)
+        // 댓글 insert 가 커밋된 뒤에 더함 -> 롤백되면 댓글 수도 그대로
+        counterBuffer.addAfterCommit(CounterType.POST_COMMENT, post.getId(), 1);
+        eventPublisher.publishEvent(new CommentChangedEvent(post.getId(), newComment.getId(), sortKey, CommentChangedEvent.Type.CREATED));
 
-        // 이 댓글보다 앞에 있는 댓글의 수를 세어서 페이지 번호 계산
-        long rank = commentRepository.countByPost_IdAndSortKeyLessThanEqual(post.getId(), sortKey);
+        // 이 댓글보다 앞에 있는 댓글의 수로 페이지 번호 계산 (적재된 순위 인덱스가 있으면 COUNT 쿼리 대신 사용)
+        long rank = commentRankIndex.rank(post.getId(), sortKey);
         int pageSize = 20; // 설정값
         int pageNumber = (int) ((rank - 1) / pageSize);
 
@@ -126,12 +252,13 @@ public class CommentService {
         }
 
         comment.update(request.getContent());
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId(), commentId, comment.getSortKey(), CommentChangedEvent.Type.UPDATED));
 
         // 수정된 댓글의 위치(페이지 번호) 계산
         Post post = comment.getPost();
         String sortKey = comment.getSortKey();
         
-        long rank = commentRepository.countByPost_IdAndSortKeyLessThanEqual(post.getId(), sortKey);
+        long rank = commentRankIndex.rank(post.getId(), sortKey);
         int pageSize = 20; // 설정값
         int pageNumber = (int) ((rank - 1) / pageSize);
 
@@ -148,7 +275,8 @@ public class CommentService {
         }
 
         comment.softDelete();
-        postService.decrementCommentCount(comment.getPost().getId());
+        counterBuffer.addAfterCommit(CounterType.POST_COMMENT, comment.getPost().getId(), -1);
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId(), commentId, comment.getSortKey(), CommentChangedEvent.Type.DELETED));
     }
 
 
@@ -167,39 +295,40 @@ public class CommentService {
     @Transactional
     public LikeResponse like(Long userId, Long commentId, boolean shouldBeLiked) {
 
-        User user = userService.findById(userId);
-        Comment comment = findById(commentId);
-
-        Optional<CommentLike> optionalLike = commentLikeRepository.findByUserAndComment(user, comment);
-        boolean isLiked = optionalLike.isPresent();
+        // 댓글이 없거나 삭제됐으면 예외 (좋아요 추가/삭제 전에 확인)
+        int likeCount = commentRepository.findLiveLikeCount(commentId)
+                .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
 
-        // Case 1: 현재 좋아요가 눌려있고(true) 좋아요 취소해야 함(false) -> 좋아요 취소
-        if (isLiked && !shouldBeLiked) {
-            commentLikeRepository.delete(optionalLike.get());
-            comment.decrementLikeCount();
-        }
-        // Case 2: 현재 좋아요가 안 눌려있고(false) 좋아요 눌러야 함(true) -> 좋아요 추가
-        else if(!isLiked && shouldBeLiked){
-            CommentLike like = CommentLike.builder()
-                    .user(user)
-                    .comment(comment)
-                    .build();
-
-            commentLikeRepository.save(like);
-            comment.incrementLikeCount();
+        // User, Comment, CommentLike 를 조회하지 않고 한 문장으로 추가/삭제 (PostService.like 와 동일)
+        // insertIfAbsent 는 새로 추가됐을 때만 1 (이미 있으면 2)
+        boolean changed = shouldBeLiked
+                ? commentLikeRepository.insertIfAbsent(userId, commentId) == 1
+                : commentLikeRepository.deleteIfPresent(userId, commentId) > 0;
+
+        // like_count 는 버퍼에 모아서 주기적으로 반영, comment_like 변경이 커밋된 뒤에 더함
+        int delta = changed ? (shouldBeLiked ? 1 : -1) : 0;
+        if (changed) {
+            counterBuffer.addAfterCommit(CounterType.COMMENT_LIKE, commentId, delta);
+            eventPublisher.publishEvent(new LikeChangedEvent(LikeTarget.COMMENT, userId, commentId, shouldBeLiked));
         }
-        // else case: 의도한대로 이미 저장되어있음 -> 아무것도 안하고 유지
+        likeCount += (int) counterBuffer.pending(CounterType.COMMENT_LIKE, commentId) + delta;
 
         return LikeResponse.builder()
-                .likeCount(comment.getLikeCount())
+                .likeCount(likeCount)
                 .isLiked(shouldBeLiked)
                 .build();
     }
 
 
+    // 게시글 단위로 변환하므로 한 게시글의 키는 모두 같은 형식 -> 첫 키만 확인
+    private boolean hasLegacySortKeys(Long postId) {
+        List<String> firstKey = commentRepository.findSortKeysByPostId(postId, PageRequest.of(0, 1));
+        return !firstKey.isEmpty() && CommentSortKey.isLegacy(firstKey.get(0));
+    }
+
     private Comment findById(Long commentId) {
 
-        return commentRepository.findByIdAndIsDeletedFalse(commentId)
+        return commentRepository.findLiveById(commentId)
                 .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
     }
 
@@ -0,0 +1,206 @@
+package grpify.grpify.comment.service;
+
+import grpify.grpify.comment.domain.CommentSortKey;
+import grpify.grpify.comment.dto.SortKeyMigrationResponse;
+import grpify.grpify.comment.repository.CommentSortKeyRepository;
+import grpify.grpify.comment.repository.CommentSortKeyRepository.ReplyCountFix;
+import grpify.grpify.comment.repository.CommentSortKeyRepository.ReplyCountRow;
+import grpify.grpify.comment.repository.CommentSortKeyRepository.SortKeyRow;
+import grpify.grpify.common.counter.CounterBuffer;
+import grpify.grpify.common.counter.CounterType;
+import grpify.grpify.common.exception.DuplicateException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * 이전 형식 정렬 키 (%010d + "->") 를 CommentSortKey 형식으로 변환하는 일회성 작업
+ *
+ * 한 게시글의 댓글은 같은 트랜잭션에서 한꺼번에 변환 -> 한 게시글 안에 두 형식이 섞인 상태로 읽히지 않음
+ *  - 배치 하나 = 게시글 posts-per-batch 개 (grpify.comment.sort-key-migration.posts-per-batch)
+ *  - 배치 사이에 쉬어서 댓글 작성 트랜잭션이 끼어들 틈을 줌 (batch-pause-ms)
+ * 변환 전 게시글에 작성되는 댓글도 이전 형식 (CommentSortKey.of/root) -> 같이 변환됨
+ * 변환과 동시에 작성된 댓글은 이전 형식으로 남을 수 있음 -> completed = true 가 될 때까지 다시 실행 (처음 게시글부터 다시 찾음)
+ * 하위 댓글 수(reply_count) 재계산도 같은 방식으로 게시글 배치 단위 실행 (두 작업은 동시에 실행 x)
+ */
+@Slf4j
+@Service
+public class CommentSortKeyMigrationService {
+
+    private final CommentSortKeyRepository commentSortKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CommentRankIndex commentRankIndex;
+    private final CommentThreadCache commentThreadCache;
+    private final CounterBuffer counterBuffer;
+    private final int postsPerBatch;
+    private final long batchPauseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public CommentSortKeyMigrationService(CommentSortKeyRepository commentSortKeyRepository,
+                                          TransactionTemplate transactionTemplate,
+                                          CommentRankIndex commentRankIndex,
+                                          CommentThreadCache commentThreadCache,
+                                          CounterBuffer counterBuffer,
+                                          @Value("${grpify.comment.sort-key-migration.posts-per-batch:100}") int postsPerBatch,
+                                          @Value("${grpify.comment.sort-key-migration.batch-pause-ms:100}") long batchPauseMs) {
+        this.commentSortKeyRepository = commentSortKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.commentRankIndex = commentRankIndex;
+        this.commentThreadCache = commentThreadCache;
+        this.counterBuffer = counterBuffer;
+        this.postsPerBatch = postsPerBatch;
+        this.batchPauseMs = batchPauseMs;
+    }
+
+    public SortKeyMigrationResponse migrate(int maxBatches) {
+        return runBatches("정렬 키 변환", maxBatches,
+                lastPostId -> commentSortKeyRepository.findPostIdsWithLegacyKeys(lastPostId, postsPerBatch),
+                this::convert,
+                postIds -> {
+                    // 변환 전 키로 적재된 순위 인덱스, 댓글 목록 캐시 버림
+                    commentRankIndex.invalidate(postIds);
+                    commentThreadCache.invalidate(postIds);
+                });
+    }
+
+    /**
+     * 하위 댓글 수(reply_count) 를 정렬 키 기준으로 다시 계산
+     * 컬럼 추가 후 기존 댓글 채우기, 보관 작업으로 삭제된 답글 반영용 (실행 중에 달린 답글은 다음 실행에서 맞춰짐)
+     */
+    public SortKeyMigrationResponse rebuildReplyCounts(int maxBatches) {
+        return runBatches("하위 댓글 수 재계산", maxBatches,
+                lastPostId -> commentSortKeyRepository.findPostIdsWithComments(lastPostId, postsPerBatch),
+                this::rebuild,
+                commentThreadCache::invalidate);
+    }
+
+    /**
+     * 게시글 id 순서로 배치 단위 실행, 배치마다 트랜잭션 하나
+     * @param nextPostIds 마지막으로 처리한 게시글 id 다음 배치
+     * @param work        배치 처리, 수정한 댓글 수 반환
+     * @param afterCommit 커밋 후 캐시 정리
+     */
+    private SortKeyMigrationResponse runBatches(String name, int maxBatches,
+                                                LongFunction<List<Long>> nextPostIds,
+                                                Function<List<Long>, Integer> work,
+                                                Consumer<List<Long>> afterCommit) {
+        if (!running.compareAndSet(false, true)) {
+            throw new DuplicateException("이미 정렬 키 작업이 실행 중입니다.");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long posts = 0;
+        long comments = 0;
+        int batches = 0;
+        boolean completed = false;
+        long lastPostId = 0;
+
+        try {
+            while (batches < maxBatches) {
+                List<Long> postIds = nextPostIds.apply(lastPostId);
+                if (postIds.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+
+                Integer updated = transactionTemplate.execute(status -> work.apply(postIds));
+                afterCommit.accept(postIds);
+                posts += postIds.size();
+                comments += updated == null ? 0 : updated;
+                batches++;
+                lastPostId = postIds.get(postIds.size() - 1);
+                log.debug("{} 배치 {}: 게시글 {}개, 댓글 {}개", name, batches, postIds.size(), updated);
+
+                Thread.sleep(batchPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.set(false);
+        }
+
+        log.info("{} {}: 게시글 {}개, 댓글 {}개, 배치 {}회", name, completed ? "완료" : "중단", posts, comments, batches);
+        return SortKeyMigrationResponse.builder()
+                .posts(posts)
+                .comments(comments)
+                .batches(batches)
+                .completed(completed)
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .build();
+    }
+
+    /**
+     * 게시글별로 정렬 키 순서대로 한 번 훑으면서 하위 댓글 수 계산 (self-join x)
+     * 하위 댓글은 (키, subtreeEnd(키)) 범위에 연속으로 있음 -> 범위가 아직 안 끝난 조상을 스택에 두고 row 마다 +1
+     * DB 값은 버퍼에 남은 증감량(COMMENT_REPLY) 이 아직 반영 전이므로 기대값 = 계산값 - pending
+     * 조회와 pending 사이에 커밋된 답글은 pending 에만 잡힘 -> 조회 전후로 pending 을 읽고 그사이 바뀐 댓글은 건너뜀
+     */
+    private int rebuild(List<Long> postIds) {
+        Map<Long, Long> pendingBefore = new HashMap<>();
+        for (ReplyCountRow row : commentSortKeyRepository.findReplyCountRows(postIds)) {
+            pendingBefore.put(row.commentId(), counterBuffer.pending(CounterType.COMMENT_REPLY, row.commentId()));
+        }
+        List<ReplyCountRow> rows = new ArrayList<>(commentSortKeyRepository.findReplyCountRows(postIds));
+        // collation 과 상관없이 CommentSortKey.subtreeEnd 와 같은 순서로 비교
+        rows.sort(Comparator.comparingLong(ReplyCountRow::postId).thenComparing(ReplyCountRow::sortKey));
+
+        int[] descendants = new int[rows.size()];
+        String[] subtreeEnds = new String[rows.size()];
+        Deque<Integer> open = new ArrayDeque<>();
+        long currentPostId = -1;
+        for (int i = 0; i < rows.size(); i++) {
+            ReplyCountRow row = rows.get(i);
+            if (row.postId() != currentPostId) {
+                open.clear();
+                currentPostId = row.postId();
+            }
+            while (!open.isEmpty() && row.sortKey().compareTo(subtreeEnds[open.peek()]) >= 0) {
+                open.pop();
+            }
+            for (int ancestor : open) {
+                descendants[ancestor]++;
+            }
+            subtreeEnds[i] = CommentSortKey.subtreeEnd(row.sortKey());
+            open.push(i);
+        }
+
+        List<ReplyCountFix> fixes = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ReplyCountRow row = rows.get(i);
+            Long before = pendingBefore.get(row.commentId());
+            long pending = counterBuffer.pending(CounterType.COMMENT_REPLY, row.commentId());
+            if (before == null || before != pending) {
+                continue;
+            }
+            int expected = descendants[i] - (int) pending;
+            if (expected != row.replyCount()) {
+                fixes.add(new ReplyCountFix(row.commentId(), row.replyCount(), expected));
+            }
+        }
+        return fixes.isEmpty() ? 0 : commentSortKeyRepository.updateReplyCounts(fixes);
+    }
+
+    private int convert(List<Long> postIds) {
+        List<SortKeyRow> rows = commentSortKeyRepository.findLegacyKeys(postIds).stream()
+                .map(row -> new SortKeyRow(row.commentId(), CommentSortKey.fromLegacy(row.sortKey())))
+                .toList();
+        if (!rows.isEmpty()) {
+            commentSortKeyRepository.updateSortKeys(rows);
+        }
+        return rows.size();
+    }
+}
@@ -0,0 +1,323 @@
+package grpify.grpify.comment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import grpify.grpify.archive.event.CommentsArchivedEvent;
+import grpify.grpify.board.event.BoardDeletedEvent;
+import grpify.grpify.comment.dto.CommentQueryDto;
+import grpify.grpify.comment.event.CommentChangedEvent;
+import grpify.grpify.comment.repository.CommentRepository;
+import grpify.grpify.common.counter.CounterChangedEvent;
+import grpify.grpify.common.counter.CounterType;
+import grpify.grpify.post.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 게시글의 댓글 목록 캐시
+ *
+ * 댓글 페이지마다 comment, 작성자, 부모 댓글, 부모 작성자 4개 테이블 조인을 다시 실행할 필요 x
+ * 게시글의 댓글 전체를 정렬 키 순서 배열로 들고 있다가 어떤 페이지든 메모리에서 잘라서 반환
+ *
+ *  - 입장: 최근 조회 빈도가 admit-after 이상인 게시글만 적재 (빈도 스케치), 한두 번 보고 마는 게시글은 캐시 x
+ *  - 크기: 전체 댓글 수 기준 (grpify.comment.thread-cache.max-comments), 댓글이 max-thread-size 보다 많은 게시글은 캐시 x
+ *  - 갱신: 댓글 작성/수정/삭제 커밋 후 해당 댓글만 반영, 좋아요 수, 하위 댓글 수는 CounterBuffer 반영 시 값만 고침
+ *  - 제거: 게시글/게시판 삭제, 정렬 키 변환, 보관 작업으로 댓글 row 가 지워졌을 때 무효화
+ * 작성자 이름, 프로필 변경은 반영하지 않음 -> ttl-minutes 가 지나 다시 적재될 때 맞춰짐
+ */
+@Component
+public class CommentThreadCache {
+
+    // 댓글이 너무 많은 게시글 (DB 조회, ttl-minutes 동안 다시 적재를 시도하지 않도록 자리만 차지)
+    private static final CommentThread OVERSIZED = new CommentThread(List.of());
+
+    private final Cache<Long, CommentThread> cache;
+    private final AdmissionSketch sketch;
+    private final CommentRepository commentRepository;
+    private final int admitAfter;
+    private final int maxThreadSize;
+
+    public CommentThreadCache(CommentRepository commentRepository,
+                              @Value("${grpify.comment.thread-cache.max-comments:200000}") long maxComments,
+                              @Value("${grpify.comment.thread-cache.max-thread-size:5000}") int maxThreadSize,
+                              @Value("${grpify.comment.thread-cache.admit-after:3}") int admitAfter,
+                              @Value("${grpify.comment.thread-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.commentRepository = commentRepository;
+        this.maxThreadSize = maxThreadSize;
+        this.admitAfter = admitAfter;
+        this.sketch = new AdmissionSketch(4096);
+        // 가중치는 댓글 수, 댓글 추가(computeIfPresent) 때마다 다시 계산
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxComments)
+                .weigher((Long postId, CommentThread thread) -> Math.max(1, thread.size()))
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 댓글 목록, 없으면 조회 빈도를 세고 입장 기준을 넘었을 때만 적재
+     * 캐시하지 않는 게시글이면 null -> 호출하는 쪽에서 DB 조회
+     */
+    public CommentThread get(Long postId) {
+        CommentThread thread = cache.getIfPresent(postId);
+        if (thread == null) {
+            if (sketch.increment(postId) < admitAfter) {
+                return null;
+            }
+            thread = cache.asMap().computeIfAbsent(postId, this::load);
+        }
+        return thread == OVERSIZED ? null : thread;
+    }
+
+    // 댓글이 너무 많으면 OVERSIZED (null 이면 저장되지 않아 요청마다 max-thread-size + 1 개를 다시 읽음)
+    private CommentThread load(Long postId) {
+        List<CommentQueryDto> rows = commentRepository.findCommentsByPostIdAfter(
+                postId, "", PageRequest.of(0, maxThreadSize + 1));
+        if (rows.size() > maxThreadSize) {
+            return OVERSIZED;
+        }
+        return new CommentThread(rows);
+    }
+
+    public void invalidate(Collection<Long> postIds) {
+        cache.invalidateAll(postIds);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 작성/수정은 댓글 한 건을 다시 읽어서 반영 (조상 댓글의 하위 댓글 수는 CounterBuffer 반영 시), 삭제는 메모리에서 삭제 표시만
+     * 적재 중인 게시글이면 적재가 끝날 때까지 기다렸다가 반영 (getIfPresent 는 적재 중이면 null -> 적재가 이 변경 전 값을 읽었으면 놓침)
+     * 댓글을 다시 읽지 못하면 null 을 반환해서 캐시에서 제거, 추가 후 max-thread-size 를 넘으면 OVERSIZED 로 교체
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        cache.asMap().computeIfPresent(event.postId(), (postId, thread) -> {
+            if (thread == OVERSIZED) {
+                return thread;
+            }
+            if (event.type() == CommentChangedEvent.Type.DELETED) {
+                thread.markDeleted(event.sortKey());
+                return thread;
+            }
+            return commentRepository.findCommentQueryDtoById(event.commentId())
+                    .map(row -> {
+                        thread.upsert(row);
+                        return thread.size() > maxThreadSize ? OVERSIZED : thread;
+                    })
+                    .orElse(null);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            cache.invalidate(event.postId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentsArchived(CommentsArchivedEvent event) {
+        cache.invalidateAll(event.postIds());
+    }
+
+    // 게시판의 게시글 id 를 모르므로 전부 버림 (게시판 삭제는 드묾)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 댓글 좋아요 수, 하위 댓글 수 반영 시 캐시된 댓글의 값만 수정 (DB 와 같은 시점)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCounterChanged(CounterChangedEvent event) {
+        if (event.type() == CounterType.COMMENT_LIKE) {
+            for (CommentThread thread : cache.asMap().values()) {
+                thread.addLikeCounts(event.deltas());
+            }
+        } else if (event.type() == CounterType.COMMENT_REPLY) {
+            for (CommentThread thread : cache.asMap().values()) {
+                thread.addReplyCounts(event.deltas());
+            }
+        }
+    }
+
+    /**
+     * 게시글 하나의 댓글 목록 (정렬 키 순서 배열)
+     * 페이지 조회는 배열 복사 한 번, 추가는 이진 탐색 + arraycopy
+     * 좋아요 수 반영은 댓글 id -> 배열 위치 맵으로 바뀐 댓글만 (전체 배열을 훑지 않음)
+     * 읽기/쓰기는 synchronized (RankTree 와 같이 게시글 단위 락)
+     */
+    static final class CommentThread {
+
+        private CommentQueryDto[] rows;
+        private int size;
+        private final Map<Long, Integer> indexById;
+
+        CommentThread(List<CommentQueryDto> sortedRows) {
+            this.rows = sortedRows.toArray(new CommentQueryDto[0]);
+            this.size = rows.length;
+            this.indexById = new HashMap<>(Math.max(16, size * 2));
+            for (int i = 0; i < size; i++) {
+                indexById.put(rows[i].getCommentId(), i);
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        // offset 번째부터 limit 개
+        synchronized List<CommentQueryDto> slice(long offset, int limit) {
+            if (offset >= size) {
+                return List.of();
+            }
+            int from = (int) offset;
+            return List.of(Arrays.copyOfRange(rows, from, Math.min(size, from + limit)));
+        }
+
+        // afterSortKey 다음부터 limit 개 (첫 페이지는 "")
+        synchronized List<CommentQueryDto> sliceAfter(String afterSortKey, int limit) {
+            int index = indexOf(afterSortKey);
+            int from = index >= 0 ? index + 1 : -(index + 1);
+            return slice(from, limit);
+        }
+
+        // 새로 추가됐으면 true
+        synchronized boolean upsert(CommentQueryDto row) {
+            int index = indexOf(row.getSortKey());
+            if (index >= 0) {
+                rows[index] = row;
+                return false;
+            }
+            int insertAt = -(index + 1);
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, Math.max(8, size + (size >> 1)));
+            }
+            System.arraycopy(rows, insertAt, rows, insertAt + 1, size - insertAt);
+            rows[insertAt] = row;
+            size++;
+            // 뒤로 밀린 댓글의 위치도 갱신
+            for (int i = insertAt; i < size; i++) {
+                indexById.put(rows[i].getCommentId(), i);
+            }
+            return true;
+        }
+
+        synchronized void markDeleted(String sortKey) {
+            int index = indexOf(sortKey);
+            if (index >= 0) {
+                rows[index] = rows[index].toBuilder().isDeleted(true).build();
+            }
+        }
+
+        synchronized void addLikeCounts(Map<Long, Long> deltas) {
+            deltas.forEach((commentId, delta) -> {
+                Integer index = indexById.get(commentId);
+                if (index != null) {
+                    rows[index] = rows[index].toBuilder().likeCount(rows[index].getLikeCount() + delta.intValue()).build();
+                }
+            });
+        }
+
+        synchronized void addReplyCounts(Map<Long, Long> deltas) {
+            deltas.forEach((commentId, delta) -> {
+                Integer index = indexById.get(commentId);
+                if (index != null) {
+                    rows[index] = rows[index].toBuilder().replyCount(rows[index].getReplyCount() + delta.intValue()).build();
+                }
+            });
+        }
+
+        // 정렬 키로 이진 탐색 (Arrays.binarySearch 와 같은 반환값)
+        private int indexOf(String sortKey) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = rows[mid].getSortKey().compareTo(sortKey);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+
+    /**
+     * 게시글별 최근 조회 빈도 (count-min sketch)
+     * 해시 4개로 카운터를 올리고 그중 최솟값을 빈도로 사용 -> 게시글 수와 상관없이 고정 메모리
+     * 증가 횟수가 카운터 수의 10배가 되면 전부 절반으로 -> 오래전 조회는 점점 잊힘
+     */
+    static final class AdmissionSketch {
+
+        private static final int DEPTH = 4;
+        private static final long[] SEEDS = {
+                0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+        };
+
+        private final int[][] counters;
+        private final int mask;
+        private final int resetAfter;
+        private int additions;
+
+        AdmissionSketch(int width) {
+            int capacity = Integer.highestOneBit(Math.max(16, width - 1) << 1);
+            this.counters = new int[DEPTH][capacity];
+            this.mask = capacity - 1;
+            this.resetAfter = capacity * 10;
+        }
+
+        // 증가 후 추정 빈도
+        synchronized int increment(long key) {
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < DEPTH; i++) {
+                int[] row = counters[i];
+                int index = index(key, i);
+                row[index]++;
+                frequency = Math.min(frequency, row[index]);
+            }
+            if (++additions >= resetAfter) {
+                halve();
+            }
+            return frequency;
+        }
+
+        private void halve() {
+            for (int[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>>= 1;
+                }
+            }
+            additions >>>= 1;
+        }
+
+        private int index(long key, int row) {
+            long hash = (key + SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+            hash ^= hash >>> 32;
+            return (int) hash & mask;
+        }
+    }
+}
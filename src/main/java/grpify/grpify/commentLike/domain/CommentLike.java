@@ -7,6 +7,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(uniqueConstraints = {
+        // 좋아요 INSERT (ON DUPLICATE KEY) / DELETE 가 중복 체크 없이 멱등하게 동작하도록
+        @UniqueConstraint(name = "uk_comment_like_user_comment", columnNames = {"user_id", "comment_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -14,7 +18,7 @@ import lombok.*;
 public class CommentLike extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // 네이티브 INSERT 에서 id 생략 가능하도록
     @Column(name = "comment_like_id")
     private Long id;
 
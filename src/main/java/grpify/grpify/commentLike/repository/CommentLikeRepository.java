@@ -6,6 +6,7 @@ import grpify.grpify.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,6 +19,32 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     // index (userId, commentId) 순서
     Optional<CommentLike> findByUserAndComment(User user, Comment comment);
 
+    /**
+     * 좋아요 추가 (이미 있으면 updated_at 만 갱신, SELECT 쪽 테이블에도 updated_at 이 있어서 대상 테이블 명시), 댓글/게시글/게시판이 살아있을 때만
+     * unique (user_id, comment_id) 로 중복 방지
+     * INSERT IGNORE 는 키 중복 외의 오류(FK, NOT NULL 등)까지 경고로 바꿔 삼킴 -> 키 중복만 ON DUPLICATE KEY 로 처리
+     * 이미 있으면 값이 바뀌는 UPDATE 로 2 반환 (값이 그대로면 useAffectedRows 설정에 따라 0/1 이 달라져 새로 추가된 것과 구분 x)
+     * @return 1: 새로 추가됨, 2: 이미 있음, 0: 댓글 없음
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO comment_like (user_id, comment_id, created_at, updated_at)
+            SELECT :userId, c.comment_id, NOW(6), NOW(6)
+            FROM comment c
+            JOIN post p ON p.post_id = c.post_id
+            JOIN board b ON b.board_id = p.board_id
+            WHERE c.comment_id = :commentId AND c.is_deleted = 0 AND p.is_deleted = 0 AND b.is_deleted = 0
+            ON DUPLICATE KEY UPDATE comment_like.updated_at = NOW(6)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    /**
+     * @return 1: 삭제됨, 0: 원래 없음
+     */
+    @Modifying
+    @Query(value = "DELETE FROM comment_like WHERE user_id = :userId AND comment_id = :commentId", nativeQuery = true)
+    int deleteIfPresent(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
     @Query(value = """
             SELECT cl.comment.id
             FROM CommentLike cl
@@ -26,4 +53,8 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     Set<Long> findLikedComments( // Set.contains 가 List.contains 보다 이득
                                  @Param("userId") Long userId,
                                  @Param("commentIds") List<Long> commentIds);
+
+    // 사용자가 좋아요한 댓글 id 전체 (LikedIdsCache 적재용), unique (user_id, comment_id) 인덱스만으로 조회
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId")
+    List<Long> findCommentIdsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,40 @@
+package grpify.grpify.common.controller;
+
+import grpify.grpify.comment.service.CommentRankIndex;
+import grpify.grpify.comment.service.CommentThreadCache;
+import grpify.grpify.common.dto.CacheStatsResponse;
+import grpify.grpify.common.like.LikedIdsCache;
+import grpify.grpify.post.service.PostListCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 인메모리 캐시 상태 확인 (관리자 전용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/caches")
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheAdminController {
+
+    private final PostListCache postListCache;
+    private final LikedIdsCache likedIdsCache;
+    private final CommentRankIndex commentRankIndex;
+    private final CommentThreadCache commentThreadCache;
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatsResponse>> getStats() {
+        return ResponseEntity.ok(List.of(
+                CacheStatsResponse.from("postList", postListCache.stats(), postListCache.estimatedSize()),
+                CacheStatsResponse.from("likedIds", likedIdsCache.stats(), likedIdsCache.estimatedSize()),
+                CacheStatsResponse.from("commentRank", commentRankIndex.stats(), commentRankIndex.estimatedSize()),
+                CacheStatsResponse.from("commentThread", commentThreadCache.stats(), commentThreadCache.estimatedSize())
+        ));
+    }
+}
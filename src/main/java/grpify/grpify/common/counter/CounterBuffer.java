@@ -0,0 +1,196 @@
+package grpify.grpify.common.counter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수처럼 자주 바뀌는 카운터를 요청마다 UPDATE 하지 않고 메모리에 모아뒀다가 한 번에 반영 (write-behind).
+ *
+ * 요청 스레드는 DeltaBuffer 에 더하기만 하고 바로 리턴 -> DB 접근 x
+ * flush 시점
+ *  1. 주기적으로 (grpify.counter.flush-interval-ms)
+ *  2. 쌓인 요청 수가 임계치를 넘었을 때 (grpify.counter.flush-threshold), 별도 스레드에서
+ *  3. 애플리케이션 종료 시 남은 값 모두 반영
+ *
+ * 버퍼에 더하기 전에 CounterJournal 에 먼저 기록 -> 크래시로 종료돼도 재시작 시 저널을 replay 해서 복구
+ *
+ * 좋아요처럼 응답에 현재 값을 바로 보여줘야 하는 카운터는 DB 값 + pending() 으로 보정
+ *
+ * 버퍼는 트랜잭션과 무관 -> 좋아요 row 처럼 DB 변경과 짝이 맞아야 하는 증감량은 addAfterCommit 사용
+ * (트랜잭션 안에서 add 하면 롤백돼도 버퍼에 남아 다음 flush 때 반영됨)
+ */
+@Slf4j
+@Component
+public class CounterBuffer {
+
+    private final CounterRepository counterRepository;
+    private final CounterJournal counterJournal;
+    private final CounterShardRouter counterShardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long flushThreshold;
+
+    private final Map<CounterType, DeltaBuffer> buffers = new EnumMap<>(CounterType.class);
+    // drain 후 DB 반영이 끝나기 전까지의 증감량 (pending 조회 시 빠지지 않도록)
+    private final Map<CounterType, Map<Long, Long>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "counter-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CounterBuffer(CounterRepository counterRepository,
+                         CounterJournal counterJournal,
+                         CounterShardRouter counterShardRouter,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${grpify.counter.flush-threshold:10000}") long flushThreshold) {
+        this.counterRepository = counterRepository;
+        this.counterJournal = counterJournal;
+        this.counterShardRouter = counterShardRouter;
+        this.eventPublisher = eventPublisher;
+        this.flushThreshold = flushThreshold;
+
+        for (CounterType type : CounterType.values()) {
+            buffers.put(type, new DeltaBuffer(() -> counterJournal.open(type)));
+        }
+    }
+
+    /**
+     * 이전 프로세스가 DB 에 반영하지 못하고 남긴 저널 replay
+     * 실패하면 파일을 지우지 않고 남겨둠 -> 다음 기동 때 다시 시도
+     */
+    @PostConstruct
+    public void recover() {
+        for (CounterType type : CounterType.values()) {
+            CounterJournal.Recovered recovered = counterJournal.recover(type);
+            try {
+                if (!recovered.getDeltas().isEmpty()) {
+                    counterRepository.addAll(type, recovered.getDeltas());
+                    log.info("{} 저널 복구 완료: {}건", type, recovered.getDeltas().size());
+                }
+                recovered.complete();
+            } catch (RuntimeException e) {
+                log.error("{} 저널 복구 실패, 다음 기동 시 재시도: {}", type, e.getMessage(), e);
+            }
+        }
+    }
+
+    public void increment(CounterType type, Long id) {
+        add(type, id, 1);
+    }
+
+    public void add(CounterType type, Long id, long delta) {
+        DeltaBuffer buffer = buffers.get(type);
+        buffer.add(id, delta);
+
+        // 임계치 초과 시 요청 스레드는 flush 를 예약만 하고 빠짐
+        if (buffer.size() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 버퍼에 더함, 롤백되면 버림
+     * 커밋 전에는 pending() 에 포함되지 않음 -> 응답에 바로 보여줄 값은 호출하는 쪽에서 직접 더함
+     * 트랜잭션 밖에서 호출하면 바로 더함
+     */
+    public void addAfterCommit(CounterType type, Long id, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(type, id, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(type, id, delta);
+            }
+        });
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감량 (버퍼 + flush 중인 값)
+     */
+    public long pending(CounterType type, Long id) {
+        long pending = buffers.get(type).pending(id);
+        Map<Long, Long> flushing = inFlight.get(type);
+        return flushing == null ? pending : pending + flushing.getOrDefault(id, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${grpify.counter.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            for (CounterType type : CounterType.values()) {
+                flush(type);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flush(CounterType type) {
+        DeltaBuffer buffer = buffers.get(type);
+        DeltaBuffer.Drained drained = buffer.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> remaining = drained.deltas();
+        boolean flushed = false;
+        inFlight.put(type, remaining);
+        try {
+            if (!remaining.isEmpty()) {
+                // 샤딩 대상은 샤드 테이블에 먼저 기록, 나머지만 원래 컬럼에 반영
+                remaining = counterShardRouter.route(type, remaining);
+                counterRepository.addAll(type, remaining);
+                flushed = true;
+                log.debug("{} flush 완료: {}건", type, drained.deltas().size());
+            }
+        } catch (RuntimeException e) {
+            // 반영 실패한 값은 버퍼에 되돌려서 다음 주기에 재시도 (새 세대의 저널에 다시 기록됨)
+            log.error("{} flush 실패, 다음 주기에 재시도: {}", type, e.getMessage(), e);
+            remaining.forEach(buffer::add);
+        } finally {
+            inFlight.remove(type);
+        }
+        drained.complete();
+
+        // 캐시 등이 반영된 값으로 보정할 수 있도록 알림 (리스너 예외가 재시도로 이어지지 않도록 try 밖에서)
+        // 샤드로 보낸 값은 아직 원래 컬럼에 없으므로 제외, 실제로 UPDATE 한 증감량만
+        if (flushed && !remaining.isEmpty()) {
+            eventPublisher.publishEvent(new CounterChangedEvent(type, remaining));
+        }
+    }
+
+    /**
+     * 종료 시 남은 증감량 반영 (graceful shutdown)
+     * DataSource 보다 먼저 소멸되므로 이 시점에는 아직 DB 사용 가능
+     */
+    @PreDestroy
+    public void drainOnShutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        buffers.values().forEach(DeltaBuffer::close);
+    }
+}
@@ -0,0 +1,10 @@
+package grpify.grpify.common.counter;
+
+import java.util.Map;
+
+/**
+ * 카운터가 DB 에 반영된 뒤 발행 (CounterBuffer flush, 카운터 보정)
+ * 캐시가 해당 항목을 버리지 않고 값만 고칠 수 있도록 id -> 증감량 전달
+ */
+public record CounterChangedEvent(CounterType type, Map<Long, Long> deltas) {
+}
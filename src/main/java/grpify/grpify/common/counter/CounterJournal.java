@@ -0,0 +1,207 @@
+package grpify.grpify.common.counter;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 버퍼에 쌓인 증감량이 JVM 크래시로 날아가지 않도록 남겨두는 append-only 저널.
+ *
+ * DeltaBuffer 의 세대(Generation) 하나당 세그먼트 파일 하나를 mmap 해서 사용.
+ * add() 가 리턴되기 전에 세그먼트에 기록 -> 프로세스가 죽어도 OS 페이지 캐시에 남아있음
+ * 세대가 DB 에 반영되면 세그먼트 파일 삭제, 재시작 시 남아있는 세그먼트는 DB 에 재반영(replay) 후 삭제.
+ *
+ * 레코드 (24 byte, 고정 길이)
+ * | id (8) | delta (8) | checksum (8) |
+ * 여러 스레드가 슬롯을 먼저 잡고 쓰기 때문에 중간에 빈 슬롯이 있을 수 있음 -> replay 시 끝까지 스캔하고 checksum 으로 검증
+ *
+ * DB 커밋 후 파일 삭제 전에 죽으면 해당 세그먼트는 한 번 더 반영됨 (at-least-once).
+ * 카운터 특성상 유실보다 중복이 낫다고 판단.
+ */
+@Slf4j
+@Component
+public class CounterJournal {
+
+    private static final int RECORD_SIZE = 24;
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final boolean enabled;
+    private final long instanceId = System.currentTimeMillis();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 이번 프로세스가 만든 세그먼트와 섞이지 않도록 기동 시점에 남아있던 파일만 replay 대상
+    private final List<Path> staleSegments;
+
+    public CounterJournal(@Value("${grpify.data-dir:data}") String dataDir,
+                          @Value("${grpify.counter.journal.segment-records:65536}") int segmentRecords,
+                          @Value("${grpify.counter.journal.enabled:true}") boolean enabled) {
+        this.directory = Paths.get(dataDir, "counter-journal");
+        this.segmentRecords = segmentRecords;
+        this.enabled = enabled;
+
+        if (!enabled) {
+            this.staleSegments = List.of();
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                this.staleSegments = files
+                        .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("카운터 저널 디렉토리를 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 새 세그먼트 생성. 저널이 꺼져 있거나 파일 생성에 실패하면 null (해당 세대는 저널 없이 동작)
+     */
+    public Segment open(CounterType type) {
+        if (!enabled) {
+            return null;
+        }
+
+        Path path = directory.resolve(prefix(type) + instanceId + "-" + sequence.incrementAndGet() + SUFFIX);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지됨
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * RECORD_SIZE);
+            return new Segment(path, buffer, segmentRecords);
+        } catch (IOException e) {
+            log.error("카운터 저널 세그먼트 생성 실패, 저널 없이 진행: {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * 기동 전에 남아있던 세그먼트를 읽어 id 별 증감량 합계를 반환.
+     * DB 반영이 끝나면 Recovered.complete() 로 파일 삭제.
+     */
+    public Recovered recover(CounterType type) {
+        List<Path> segments = staleSegments.stream()
+                .filter(path -> path.getFileName().toString().startsWith(prefix(type)))
+                .toList();
+
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Path segment : segments) {
+            readSegment(segment, deltas);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+
+        return new Recovered(deltas, segments);
+    }
+
+    private void readSegment(Path path, Map<Long, Long> deltas) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            for (int offset = 0; offset + RECORD_SIZE <= buffer.capacity(); offset += RECORD_SIZE) {
+                long id = buffer.getLong(offset);
+                long delta = buffer.getLong(offset + 8);
+                long checksum = buffer.getLong(offset + 16);
+
+                // 빈 슬롯, 쓰다 만 레코드는 건너뜀 (add() 가 리턴되지 않은 요청)
+                if (delta == 0 || checksum != checksum(id, delta)) {
+                    continue;
+                }
+                deltas.merge(id, delta, Long::sum);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("카운터 저널 세그먼트를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private static String prefix(CounterType type) {
+        return type.name().toLowerCase() + "-";
+    }
+
+    private static long checksum(long id, long delta) {
+        long hash = id * 0x9E3779B97F4A7C15L ^ delta * 0xC2B2AE3D27D4EB4FL;
+        return hash ^ (hash >>> 29) ^ 0x5DEECE66DL;
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("카운터 저널 세그먼트 삭제 실패: {}", path, e);
+        }
+    }
+
+    /**
+     * mmap 된 세그먼트 파일 하나. 슬롯 번호만 원자적으로 할당하고 각자 자기 슬롯에 씀.
+     */
+    public static class Segment {
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicInteger next = new AtomicInteger();
+
+        private Segment(Path path, MappedByteBuffer buffer, int capacity) {
+            this.path = path;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return 세그먼트가 가득 찼으면 false -> 호출 측에서 새 세그먼트로 교체
+         */
+        public boolean append(long id, long delta) {
+            int slot = next.getAndIncrement();
+            if (slot >= capacity) {
+                return false;
+            }
+
+            // checksum 을 마지막에 써야 중간에 죽었을 때 불완전한 레코드가 걸러짐
+            int offset = slot * RECORD_SIZE;
+            buffer.putLong(offset, id);
+            buffer.putLong(offset + 8, delta);
+            buffer.putLong(offset + 16, checksum(id, delta));
+            return true;
+        }
+
+        public boolean isEmpty() {
+            return next.get() == 0;
+        }
+
+        public void delete() {
+            CounterJournal.delete(path);
+        }
+    }
+
+    @Getter
+    public static class Recovered {
+        private final Map<Long, Long> deltas;
+        private final List<Path> segments;
+
+        private Recovered(Map<Long, Long> deltas, List<Path> segments) {
+            this.deltas = deltas;
+            this.segments = segments;
+        }
+
+        public void complete() {
+            segments.forEach(CounterJournal::delete);
+        }
+    }
+}
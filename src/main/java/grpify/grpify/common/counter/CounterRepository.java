@@ -0,0 +1,64 @@
+package grpify.grpify.common.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버퍼에 모인 증감량을 DB 에 반영.
+ * row 하나당 UPDATE 한 번이 아니라, CASE 문으로 여러 row 를 UPDATE 한 문장에 묶어서 실행.
+ *
+ * UPDATE post
+ * SET view_count = view_count + CASE post_id WHEN 1 THEN 30 WHEN 2 THEN 5 END
+ * WHERE post_id IN (1, 2)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounterRepository {
+
+    // IN 절, 바인딩 파라미터 수 제한 고려
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void addAll(CounterType type, Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size()));
+            jdbcTemplate.update(buildSql(type, chunk.size()), toArgs(chunk));
+        }
+    }
+
+    private String buildSql(CounterType type, int size) {
+        String column = type.getCountColumn();
+        String idColumn = type.getIdColumn();
+
+        // 감소분이 먼저 반영돼도 음수가 되지 않도록 0 으로 clamp
+        return "UPDATE " + type.getTable()
+                + " SET " + column + " = GREATEST(" + column + " + CASE " + idColumn
+                + String.join("", Collections.nCopies(size, " WHEN ? THEN ?"))
+                + " END, 0) WHERE " + idColumn
+                + " IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+    }
+
+    private Object[] toArgs(List<Map.Entry<Long, Long>> chunk) {
+        Object[] args = new Object[chunk.size() * 3];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : chunk) {
+            args[i++] = entry.getKey();
+            args[i++] = entry.getValue();
+        }
+        for (Map.Entry<Long, Long> entry : chunk) {
+            args[i++] = entry.getKey();
+        }
+        return args;
+    }
+}
@@ -0,0 +1,14 @@
+package grpify.grpify.common.counter;
+
+import java.util.Map;
+
+/**
+ * flush 직전에 샤딩 대상(경합이 심한 row)의 증감량을 샤드 테이블로 빼돌리는 역할.
+ */
+public interface CounterShardRouter {
+
+    /**
+     * 샤딩 대상 id 의 증감량은 샤드 테이블에 기록하고, 원래 컬럼에 반영할 나머지만 반환
+     */
+    Map<Long, Long> route(CounterType type, Map<Long, Long> deltas);
+}
@@ -0,0 +1,23 @@
+package grpify.grpify.common.counter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메모리에 모아뒀다가 한 번에 반영하는 카운터 종류.
+ * 반영 대상 테이블/컬럼을 같이 들고 있어서 CounterRepository 가 타입별 UPDATE 문을 만들 수 있음.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CounterType {
+    POST_VIEW("post", "post_id", "view_count"),
+    POST_LIKE("post", "post_id", "like_count"),
+    POST_COMMENT("post", "post_id", "comment_count"),
+    COMMENT_LIKE("comment", "comment_id", "like_count"),
+    // 답글 작성 시 조상 댓글들의 하위 댓글 수 (인기 스레드의 루트 댓글 row 락 경합 x)
+    COMMENT_REPLY("comment", "comment_id", "reply_count");
+
+    private final String table;
+    private final String idColumn;
+    private final String countColumn;
+}
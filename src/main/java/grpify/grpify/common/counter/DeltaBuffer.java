@@ -0,0 +1,187 @@
+package grpify.grpify.common.counter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * id 별 증감량을 메모리에 모아두는 버퍼.
+ *
+ * 같은 id 에 요청이 몰려도 LongAdder 가 내부적으로 셀을 나눠(striping) 쓰기 때문에 한 곳에서 경합하지 않음.
+ * drain() 시점에 세대(Generation)를 통째로 교체하고, 교체 전 세대에 쓰던 스레드가 모두 빠져나간 뒤에 합계를 읽음.
+ * -> 키를 하나씩 지우면서 읽는 방식과 달리, drain 도중에 들어온 증가분이 유실되거나 두 번 반영되지 않음.
+ *
+ * 세대마다 저널 세그먼트(CounterJournal.Segment)를 하나씩 가짐.
+ * 세그먼트가 가득 차면 그 자리에서 세대를 교체하고, 교체된 세대는 다음 drain 때 같이 꺼내감.
+ */
+public class DeltaBuffer {
+
+    private final Supplier<CounterJournal.Segment> segmentFactory;
+    private final ConcurrentLinkedQueue<Generation> sealedGenerations = new ConcurrentLinkedQueue<>();
+    private volatile Generation current;
+
+    public DeltaBuffer() {
+        this(() -> null);
+    }
+
+    public DeltaBuffer(Supplier<CounterJournal.Segment> segmentFactory) {
+        this.segmentFactory = segmentFactory;
+        this.current = new Generation(segmentFactory.get());
+    }
+
+    public void add(long id, long delta) {
+        while (true) {
+            Generation generation = current;
+            boolean segmentFull = false;
+
+            generation.writers.increment();
+            try {
+                // writers 증가 후에 sealed 를 확인해야 drain 쪽의 대기와 엇갈리지 않음
+                if (!generation.sealed) {
+                    // 메모리에 더하기 전에 저널에 먼저 기록
+                    if (generation.segment == null || generation.segment.append(id, delta)) {
+                        LongAdder adder = generation.counts.get(id);
+                        if (adder == null) {
+                            adder = generation.counts.computeIfAbsent(id, key -> new LongAdder());
+                        }
+                        adder.add(delta);
+                        generation.adds.increment();
+                        return;
+                    }
+                    segmentFull = true;
+                }
+            } finally {
+                generation.writers.decrement();
+            }
+
+            if (segmentFull) {
+                seal(generation);
+            } else {
+                // 이미 교체된 세대 -> 새 세대로 다시 시도
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * 현재 세대에 쌓인 add 호출 수 (flush 임계치 판단용)
+     */
+    public long size() {
+        return current.adds.sum();
+    }
+
+    /**
+     * 아직 drain 되지 않은 id 의 증감량 (현재 세대 + 교체됐지만 꺼내가지 않은 세대)
+     * 세대 교체와 겹치면 잠깐 어긋날 수 있음 -> 응답 보정용 근사값으로만 사용
+     */
+    public long pending(long id) {
+        long sum = 0;
+        LongAdder adder = current.counts.get(id);
+        if (adder != null) {
+            sum += adder.sum();
+        }
+        for (Generation sealed : sealedGenerations) {
+            LongAdder sealedAdder = sealed.counts.get(id);
+            if (sealedAdder != null) {
+                sum += sealedAdder.sum();
+            }
+        }
+        return sum;
+    }
+
+    public boolean isEmpty() {
+        return current.counts.isEmpty() && sealedGenerations.isEmpty();
+    }
+
+    /**
+     * 지금까지 쌓인 증감량을 꺼내고 버퍼를 비움.
+     * id 오름차순으로 정렬해서 반환 -> 여러 row 를 UPDATE 할 때 락 획득 순서가 항상 같도록.
+     * DB 반영이 끝나면(실패 시 다시 add 한 뒤에도) Drained.complete() 를 호출해 저널 세그먼트를 정리해야 함.
+     */
+    public synchronized Drained drain() {
+        Generation generation = current;
+        if (!generation.counts.isEmpty()) {
+            seal(generation);
+        }
+
+        Map<Long, Long> deltas = new TreeMap<>();
+        List<CounterJournal.Segment> segments = new ArrayList<>();
+
+        Generation sealed;
+        while ((sealed = sealedGenerations.poll()) != null) {
+            // 교체 전에 들어온 쓰기가 끝날 때까지 대기 (add 의 임계구역이 매우 짧아서 스핀으로 충분)
+            while (sealed.writers.sum() != 0) {
+                Thread.onSpinWait();
+            }
+            sealed.counts.forEach((id, adder) -> deltas.merge(id, adder.sum(), Long::sum));
+            if (sealed.segment != null) {
+                segments.add(sealed.segment);
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+
+        return new Drained(deltas, segments);
+    }
+
+    /**
+     * 종료 시 호출. 비어있는 현재 세그먼트 파일 정리
+     */
+    public synchronized void close() {
+        CounterJournal.Segment segment = current.segment;
+        if (segment != null && segment.isEmpty() && sealedGenerations.isEmpty()) {
+            segment.delete();
+        }
+    }
+
+    private synchronized void seal(Generation generation) {
+        // 다른 스레드가 이미 교체했으면 무시
+        if (current != generation) {
+            return;
+        }
+        current = new Generation(segmentFactory.get());
+        generation.sealed = true;
+        sealedGenerations.add(generation);
+    }
+
+    public static class Drained {
+        private final Map<Long, Long> deltas;
+        private final List<CounterJournal.Segment> segments;
+
+        private Drained(Map<Long, Long> deltas, List<CounterJournal.Segment> segments) {
+            this.deltas = deltas;
+            this.segments = segments;
+        }
+
+        public Map<Long, Long> deltas() {
+            return deltas;
+        }
+
+        public boolean isEmpty() {
+            return deltas.isEmpty() && segments.isEmpty();
+        }
+
+        /**
+         * 꺼낸 증감량이 DB 에 반영됐거나 버퍼에 다시 기록된 뒤에 호출 -> 저널 세그먼트 삭제
+         */
+        public void complete() {
+            segments.forEach(CounterJournal.Segment::delete);
+        }
+    }
+
+    private static class Generation {
+        private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+        private final LongAdder writers = new LongAdder();
+        private final LongAdder adds = new LongAdder();
+        private final CounterJournal.Segment segment;
+        private volatile boolean sealed = false;
+
+        private Generation(CounterJournal.Segment segment) {
+            this.segment = segment;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package grpify.grpify.common.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 캐시 적중률 등 통계 (관리자 조회용)
+ */
+@Getter
+@Builder
+public class CacheStatsResponse {
+    private String name;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private double averageLoadPenaltyMs;
+
+    public static CacheStatsResponse from(String name, CacheStats stats, long size) {
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(size)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .averageLoadPenaltyMs(stats.averageLoadPenalty() / 1_000_000.0)
+                .build();
+    }
+}
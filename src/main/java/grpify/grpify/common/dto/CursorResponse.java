@@ -0,0 +1,43 @@
+package grpify.grpify.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이징 응답
+ * COUNT 쿼리 없이 size + 1 개를 조회해서 다음 페이지 존재 여부 판단
+ */
+@Getter
+@Builder
+public class CursorResponse<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * @param rows     size + 1 개까지 조회한 결과
+     * @param cursorOf 마지막 항목으로 다음 커서를 만드는 함수
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorResponse.<T>builder()
+                .items(items)
+                .nextCursor(hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 커서는 그대로 두고 항목만 변환 (조회용 DTO -> 응답 DTO)
+    public <R> CursorResponse<R> map(Function<T, R> mapper) {
+        return CursorResponse.<R>builder()
+                .items(items.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package grpify.grpify.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class BadRequestException extends RuntimeException {
+    private final String errorCode;
+
+    public BadRequestException(String s) {
+        super(s);
+        this.errorCode = "BAD_REQUEST";
+    }
+}
@@ -0,0 +1,7 @@
+package grpify.grpify.common.like;
+
+/**
+ * 좋아요 추가/취소로 실제 상태가 바뀌었을 때 발행 (커밋 후 LikedIdsCache 에 반영)
+ */
+public record LikeChangedEvent(LikeTarget target, Long userId, Long targetId, boolean liked) {
+}
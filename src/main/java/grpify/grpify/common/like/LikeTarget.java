@@ -0,0 +1,9 @@
+package grpify.grpify.common.like;
+
+/**
+ * 좋아요 대상 종류
+ */
+public enum LikeTarget {
+    POST,
+    COMMENT
+}
@@ -0,0 +1,104 @@
+package grpify.grpify.common.like;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import grpify.grpify.PostLike.repository.PostLikeRepository;
+import grpify.grpify.commentLike.repository.CommentLikeRepository;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * 사용자별 좋아요한 게시글/댓글 id 캐시
+ *
+ * 상세 조회마다 exists 쿼리, 댓글 페이지마다 IN 쿼리를 실행하지 않고 메모리에서 isLiked 판단
+ * id 를 Set<Long> (박싱된 Long + 해시 엔트리) 대신 Roaring 비트맵으로 저장 -> id 하나당 수 바이트 수준
+ *
+ *  - 적재: 처음 조회할 때 사용자의 좋아요 id 전체를 한 번에 읽음
+ *  - 갱신: 좋아요 추가/취소 커밋 후 LikeChangedEvent 로 반영 (캐시에 없는 사용자는 무시 -> 다음 조회 때 새로 적재)
+ *  - 제거: 비트맵 크기(바이트) 합계 기준 (grpify.like-cache.max-bytes), 일정 시간 조회 없으면 만료
+ *
+ * 비트맵은 한 번 캐시에 들어가면 수정하지 않음 -> 갱신 시 복사본을 만들어 교체 (읽는 쪽은 락 없이 contains)
+ */
+@Component
+public class LikedIdsCache {
+
+    private final Cache<Key, Roaring64NavigableMap> cache;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+
+    public LikedIdsCache(PostLikeRepository postLikeRepository,
+                         CommentLikeRepository commentLikeRepository,
+                         @Value("${grpify.like-cache.max-bytes:67108864}") long maxBytes,
+                         @Value("${grpify.like-cache.idle-minutes:30}") long idleMinutes) {
+        this.postLikeRepository = postLikeRepository;
+        this.commentLikeRepository = commentLikeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Roaring64NavigableMap bitmap) -> (int) Math.min(Integer.MAX_VALUE, bitmap.getLongSizeInBytes()))
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+    }
+
+    private record Key(LikeTarget target, Long userId) {
+    }
+
+    public boolean contains(LikeTarget target, Long userId, Long id) {
+        return likedBy(target, userId).test(id);
+    }
+
+    /**
+     * 한 페이지의 여러 id 를 판단할 때 사용 (캐시 조회 1번)
+     * 비로그인 사용자는 항상 false
+     */
+    public LongPredicate likedBy(LikeTarget target, Long userId) {
+        if (userId == null) {
+            return id -> false;
+        }
+        Roaring64NavigableMap bitmap = cache.get(new Key(target, userId), this::load);
+        return bitmap::contains;
+    }
+
+    private Roaring64NavigableMap load(Key key) {
+        List<Long> ids = key.target() == LikeTarget.POST
+                ? postLikeRepository.findPostIdsByUserId(key.userId())
+                : commentLikeRepository.findCommentIdsByUserId(key.userId());
+
+        Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+        ids.forEach(bitmap::addLong);
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    /**
+     * 적재 중인 사용자면 적재가 끝날 때까지 기다렸다가 반영 (Caffeine compute 는 같은 키끼리 직렬화)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        cache.asMap().computeIfPresent(new Key(event.target(), event.userId()), (key, bitmap) -> {
+            Roaring64NavigableMap copy = new Roaring64NavigableMap();
+            copy.or(bitmap);
+            if (event.liked()) {
+                copy.addLong(event.targetId());
+            } else {
+                copy.removeLong(event.targetId());
+            }
+            return copy;
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
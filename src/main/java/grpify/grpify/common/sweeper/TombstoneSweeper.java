@@ -0,0 +1,74 @@
+package grpify.grpify.common.sweeper;
+
+import grpify.grpify.comment.repository.CommentRepository;
+import grpify.grpify.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntSupplier;
+
+/**
+ * 부모만 삭제 표시된 하위 row 정리
+ *
+ * 게시판/게시글 삭제는 부모 row 하나만 수정 (삭제 비용이 하위 개수와 무관)
+ * 읽기 경로는 부모 상태로 걸러내므로 하위 row 는 늦게 정리돼도 됨
+ * -> 주기적으로 삭제된 게시판의 게시글, 삭제된 게시글의 댓글을 LIMIT 단위로 삭제 표시
+ *    (보관 작업 ArchiveService 가 is_deleted 기준으로 옮길 수 있도록)
+ *
+ * 게시글 먼저 -> 같은 실행에서 방금 삭제 표시된 게시글의 댓글까지 정리
+ */
+@Slf4j
+@Component
+public class TombstoneSweeper {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long batchPauseMs;
+    private final int maxBatches;
+
+    public TombstoneSweeper(PostRepository postRepository,
+                            CommentRepository commentRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${grpify.sweeper.batch-size:1000}") int batchSize,
+                            @Value("${grpify.sweeper.batch-pause-ms:100}") long batchPauseMs,
+                            @Value("${grpify.sweeper.max-batches:100}") int maxBatches) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${grpify.sweeper.interval-ms:60000}")
+    public void sweep() {
+        try {
+            int posts = drain(() -> postRepository.sweepPostsOfDeletedBoards(batchSize));
+            int comments = drain(() -> commentRepository.sweepCommentsOfDeletedPosts(batchSize));
+
+            if (posts > 0 || comments > 0) {
+                log.info("삭제 정리: 게시글 {}건, 댓글 {}건", posts, comments);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int drain(IntSupplier batch) throws InterruptedException {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            Integer updated = transactionTemplate.execute(status -> batch.getAsInt());
+            if (updated == null || updated == 0) {
+                break;
+            }
+            total += updated;
+            Thread.sleep(batchPauseMs);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,43 @@
+package grpify.grpify.common.util;
+
+import grpify.grpify.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징용 커서 인코딩.
+ * 정렬 기준 값 + id 를 이어붙여 Base64(URL-safe) 로 감쌈 -> 클라이언트는 내용을 몰라도 되는 불투명한 문자열
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                builder.append(DELIMITER);
+            }
+            builder.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new BadRequestException("잘못된 커서입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
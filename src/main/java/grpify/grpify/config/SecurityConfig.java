@@ -41,6 +41,11 @@ public class SecurityConfig {
                                 "/main.html",
                                 "/card.html"
                         ).permitAll()
+                        // @PreAuthorize 는 메서드 보안을 켜지 않아 적용되지 않음 -> 관리자 전용 경로는 여기서 확인
+                        // 댓글 내보내기: 삭제된 댓글 원문, 작성자 id 까지 포함
+                        .requestMatchers("/api/comments/export").hasRole("ADMIN")
+                        // 관리자 작업 (보관/정리, 카운터 보정, 정렬 키 변환, 백필, 캐시 통계 등)
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth -> oauth
@@ -0,0 +1,45 @@
+package grpify.grpify.post.controller;
+
+import grpify.grpify.post.dto.PostBackfillResponse;
+import grpify.grpify.post.service.HotScoreService;
+import grpify.grpify.post.service.PostContentBackfillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 게시글 관리 작업 (관리자 전용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/posts")
+@PreAuthorize("hasRole('ADMIN')")
+public class PostAdminController {
+
+    private final HotScoreService hotScoreService;
+    private final PostContentBackfillService postContentBackfillService;
+
+    /**
+     * 인기 점수가 없는(0) 게시글 일괄 계산, completed = false 면 다시 호출해서 이어서 진행
+     */
+    @PostMapping("/hot-scores/backfill")
+    public ResponseEntity<PostBackfillResponse> backfillHotScores(
+            @RequestParam(defaultValue = "1000") int maxBatches) {
+
+        return ResponseEntity.ok(hotScoreService.backfill(maxBatches));
+    }
+
+    /**
+     * 본문 분리 전 게시글의 본문(post_content), 미리보기 채우기, completed = true 가 된 뒤에 post.content DROP
+     */
+    @PostMapping("/contents/backfill")
+    public ResponseEntity<PostBackfillResponse> backfillContents(
+            @RequestParam(defaultValue = "1000") int maxBatches) {
+
+        return ResponseEntity.ok(postContentBackfillService.backfill(maxBatches));
+    }
+}
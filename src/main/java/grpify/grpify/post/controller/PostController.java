@@ -2,9 +2,14 @@ package grpify.grpify.post.controller;
 
 import grpify.grpify.auth.CustomUserDetails;
 import grpify.grpify.PostLike.dto.LikeResponse;
+import grpify.grpify.PostLike.dto.LikedPostResponse;
+import grpify.grpify.common.dto.CursorResponse;
 import grpify.grpify.post.dto.PostRequest;
 import grpify.grpify.post.dto.PostResponse;
+import grpify.grpify.post.dto.PostSort;
+import grpify.grpify.post.dto.PostSummaryResponse;
 import grpify.grpify.post.service.PostService;
+import grpify.grpify.search.PostSearchService;
 import grpify.grpify.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -23,7 +28,10 @@ import java.net.URI;
 @RequestMapping("/api/posts")
 public class PostController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostService postService;
+    private final PostSearchService postSearchService;
 
     // 좋아요 요청 DTO를 record로 간결하게 정의
     public record LikeRequest(boolean like) {}
@@ -32,16 +40,70 @@ public class PostController {
      * 게시글 목록 조회 (게시판별)
      * 모든 사용자가 접근 가능 (비로그인 포함)
      * boardId를 쿼리 파라미터로 받아 필터링
+     * 로그인 사용자는 게시글별 좋아요 여부(isLiked) 포함
      */
     @GetMapping
-    public ResponseEntity<Page<PostResponse>> getPostsByBoard(
+    public ResponseEntity<Page<PostSummaryResponse>> getPostsByBoard(
             @RequestParam(required = true) Long boardId,
-            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        Page<PostResponse> posts = postService.findByBoard(boardId, pageable);
+        Long currentUserId = (userDetails != null) ? userDetails.getUser().getId() : null;
+        Page<PostSummaryResponse> posts = postService.findByBoard(boardId, pageable, currentUserId);
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * 게시글 목록 조회 (게시판별, 커서 방식)
+     * 모든 사용자가 접근 가능 (비로그인 포함)
+     * 깊은 페이지도 첫 페이지와 같은 비용, 다음 페이지는 응답의 nextCursor 를 그대로 전달
+     * sort: createdAt(기본), viewCount, likeCount, hot (모두 내림차순)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<PostSummaryResponse>> getPostsByBoardCursor(
+            @RequestParam Long boardId,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long currentUserId = (userDetails != null) ? userDetails.getUser().getId() : null;
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        CursorResponse<PostSummaryResponse> posts = postService.findByBoardCursor(boardId, PostSort.from(sort), cursor, pageSize, currentUserId);
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * 게시글 검색 (제목, 본문, 댓글)
+     * 모든 사용자가 접근 가능 (비로그인 포함)
+     * 관련도 순, 다음 페이지는 응답의 nextCursor 를 그대로 전달
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorResponse<PostSummaryResponse>> searchPosts(
+            @RequestParam Long boardId,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return ResponseEntity.ok(postSearchService.search(boardId, q, cursor, pageSize));
+    }
+
+    /**
+     * 내가 좋아요한 게시글 목록 (커서 방식, 최근 좋아요 순)
+     * 로그인된 사용자만 접근 가능
+     */
+    @GetMapping("/liked")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<CursorResponse<LikedPostResponse>> getLikedPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return ResponseEntity.ok(postService.findLikedPosts(userDetails.getUser().getId(), cursor, pageSize));
+    }
+
     /**
      * 게시글 상세 조회
      * 모든 사용자가 접근 가능 (비로그인 포함)
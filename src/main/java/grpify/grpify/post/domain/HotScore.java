@@ -0,0 +1,35 @@
+package grpify.grpify.post.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 인기순(hot) 정렬 점수
+ *
+ * score = log10(max(1, 가중 활동량)) + (작성 시각 - 기준 시각) / DECAY_SECONDS
+ *
+ * - 활동량은 로그 -> 처음 10 개의 반응과 그 다음 90 개의 반응이 같은 가치
+ * - 시간 항은 작성 시각에 고정 -> DECAY_SECONDS(12.5 시간) 늦게 쓴 글은 활동량 10배와 같은 점수
+ *   => 오래된 글은 새 글에 비해 저절로 밀려남, 활동이 없는 글은 다시 계산할 필요 x
+ *
+ * 좋아요 수 정렬처럼 오래된 글이 계속 위에 남지 않음
+ */
+public final class HotScore {
+
+    private static final double LIKE_WEIGHT = 3.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double VIEW_WEIGHT = 0.1;
+
+    private static final long EPOCH_SECONDS = LocalDateTime.of(2025, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final double DECAY_SECONDS = 45000;
+
+    private HotScore() {
+    }
+
+    public static double calculate(int likeCount, int commentCount, int viewCount, LocalDateTime createdAt) {
+        double engagement = likeCount * LIKE_WEIGHT + commentCount * COMMENT_WEIGHT + viewCount * VIEW_WEIGHT;
+        double seconds = createdAt.toEpochSecond(ZoneOffset.UTC) - EPOCH_SECONDS;
+
+        return Math.log10(Math.max(1, engagement)) + seconds / DECAY_SECONDS;
+    }
+}
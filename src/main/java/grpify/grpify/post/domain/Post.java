@@ -8,15 +8,28 @@ import grpify.grpify.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        // 게시판 목록 키셋 페이징용 (정렬 기준별)
+        @Index(name = "idx_post_board_created", columnList = "board_id, is_deleted, created_at, post_id"),
+        @Index(name = "idx_post_board_view", columnList = "board_id, is_deleted, view_count, post_id"),
+        @Index(name = "idx_post_board_like", columnList = "board_id, is_deleted, like_count, post_id"),
+        @Index(name = "idx_post_board_hot", columnList = "board_id, is_deleted, hot_score, post_id"),
+        // 보관(archive) 대상 조회용
+        @Index(name = "idx_post_deleted_updated", columnList = "is_deleted, updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class Post extends BaseTimeEntity {
+
+    public static final int PREVIEW_LENGTH = 150;
+
     @Id @GeneratedValue
     @Column(name = "post_id")
     private Long id;
@@ -24,7 +37,9 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false, length = 30)
     private String title;
 
-    private String content;
+    // 목록용 본문 미리보기, 본문 전체는 PostContent (post_content 테이블)
+    @Column(length = PREVIEW_LENGTH)
+    private String preview;
 
     @Column(nullable = false)
     @Builder.Default
@@ -42,6 +57,11 @@ public class Post extends BaseTimeEntity {
     @Builder.Default
     private boolean isDeleted = false;
 
+    // 인기순 정렬 점수 (HotScore), 활동이 생긴 게시글만 주기적으로 다시 계산
+    @Column(nullable = false)
+    @Builder.Default
+    private double hotScore = 0;
+
     // @Version//for test - 성능 테스트를 위해 임시 제거
     // private Long version;
 
@@ -64,10 +84,28 @@ public class Post extends BaseTimeEntity {
 //    private List<Attachment> attachments = new ArrayList<>();
 
 
-    // 게시글 내용 수정 (타이틀, 본문)
+    // 새 글은 활동량 0 기준 점수로 시작 (시간 항만)
+    @PrePersist
+    private void initHotScore() {
+        this.hotScore = HotScore.calculate(0, 0, 0, LocalDateTime.now());
+    }
+
+    // 게시글 내용 수정 (타이틀, 본문 미리보기), 본문 전체는 PostContent 에서 수정
     public void update(String title, String content) {
         this.title = title;
-        this.content = content;
+        this.preview = previewOf(content);
+    }
+
+    // 공백, 줄바꿈을 정리하고 PREVIEW_LENGTH 글자까지 (서로게이트 쌍이 잘리지 않도록 코드포인트 기준)
+    public static String previewOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.codePointCount(0, normalized.length()) <= PREVIEW_LENGTH) {
+            return normalized;
+        }
+        return normalized.substring(0, normalized.offsetByCodePoints(0, PREVIEW_LENGTH));
     }
 
     public void softDelete() {
@@ -79,17 +117,6 @@ public class Post extends BaseTimeEntity {
         this.viewCount++;
     }
 
-    public void incrementCommentCount() {
-        this.commentCount++;
-    }
-
-    // 댓글 수 감소
-    public void decrementCommentCount() {
-        if (this.commentCount > 0) {
-            this.commentCount--;
-        }
-    }
-
     // 좋아요 수 증가/감소 (PostLike 엔티티와 동기화)
     public void incrementLikeCount() {
         this.likeCount++;
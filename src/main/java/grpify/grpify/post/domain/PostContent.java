@@ -0,0 +1,40 @@
+package grpify.grpify.post.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 게시글 본문 (post 테이블에서 분리)
+ *
+ * 목록 조회, 카운터 UPDATE 가 넓은 본문 컬럼까지 읽고 다시 쓰지 않도록 별도 테이블로 분리
+ * post 에는 짧은 미리보기(preview) 만 남기고, 본문 전체는 상세 조회 때만 읽음
+ * PK = post_id (게시글과 1:1)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_content")
+public class PostContent {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    public PostContent(Post post, String body) {
+        this.post = post;
+        this.body = body;
+    }
+
+    public void update(String body) {
+        this.body = body;
+    }
+}
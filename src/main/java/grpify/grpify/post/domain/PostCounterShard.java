@@ -0,0 +1,40 @@
+package grpify.grpify.post.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 인기 게시글의 조회수/좋아요 수를 여러 row 로 나눠서 기록하는 샤드 테이블.
+ * 한 게시글의 카운터 UPDATE 가 post row 하나에 몰리지 않도록, 쓰기는 임의의 샤드 row 에 분산하고
+ * 읽을 때는 post 의 값 + 샤드 합계. 주기적으로 post 로 합쳐서(compaction) 비움.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_counter_shard")
+public class PostCounterShard {
+
+    @EmbeddedId
+    private ShardId id;
+
+    @Column(nullable = false)
+    private int viewCount;
+
+    @Column(nullable = false)
+    private int likeCount;
+
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class ShardId implements Serializable {
+        @Column(name = "post_id")
+        private Long postId;
+
+        @Column(name = "shard")
+        private int shard;
+    }
+}
@@ -0,0 +1,17 @@
+package grpify.grpify.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시글 일괄 보정 작업 실행 결과 (관리자 조회용)
+ * completed = false 면 max-batches 에서 멈춘 것 -> 다시 실행하면 이어서 진행
+ */
+@Getter
+@Builder
+public class PostBackfillResponse {
+    private long posts;
+    private int batches;
+    private boolean completed;
+    private long elapsedMs;
+}
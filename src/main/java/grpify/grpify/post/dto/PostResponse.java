@@ -6,13 +6,14 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
     private Long id;
     private String title;
     private String content;
     private int viewCount;
     private int likeCount;
+    private int commentCount;
     private String authorName;
     private Long authorId;
     private String boardName;
@@ -21,13 +22,15 @@ public class PostResponse {
     private LocalDateTime updatedAt;
     private boolean isLiked;
 
-    public static PostResponse from(Post post) {
+    // 본문은 post_content 에 따로 저장 -> 호출하는 쪽에서 전달
+    public static PostResponse from(Post post, String content) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
-                .content(post.getContent())
+                .content(content)
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
                 .authorName(post.getAuthor().getName())
                 .authorId(post.getAuthor().getId())
                 .boardName(post.getBoard().getName())
@@ -37,13 +40,14 @@ public class PostResponse {
                 .build();
     }
 
-    public static PostResponse from(Post post, boolean isLiked) {
+    public static PostResponse from(Post post, String content, boolean isLiked) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
-                .content(post.getContent())
+                .content(content)
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
                 .authorName(post.getAuthor().getName())
                 .authorId(post.getAuthor().getId())
                 .boardName(post.getBoard().getName())
@@ -0,0 +1,30 @@
+package grpify.grpify.post.dto;
+
+import grpify.grpify.common.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 커서 페이징 정렬 기준 (모두 내림차순, 동률은 post_id 내림차순)
+ * 쿼리 파라미터 값은 Pageable 정렬 프로퍼티명과 맞춤 (sort=createdAt, viewCount, likeCount)
+ * hot: 시간 감쇠가 적용된 인기순 (hot_score)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PostSort {
+    LATEST("createdAt"),
+    VIEW("viewCount"),
+    LIKE("likeCount"),
+    HOT("hot");
+
+    private final String property;
+
+    public static PostSort from(String property) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 정렬 기준입니다: " + property));
+    }
+}
@@ -0,0 +1,41 @@
+package grpify.grpify.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 응답 (JPQL 생성자 프로젝션)
+ * author, board 를 조인해서 한 번에 조회 -> 목록 한 페이지에 쿼리 1번 (지연 로딩 N+1 x)
+ * 본문 전체 대신 post 의 짧은 미리보기(preview) 만 조회
+ * isLiked 는 조회 후 사용자별로 채움 (목록 캐시는 사용자와 무관하게 공유)
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class PostSummaryResponse {
+    private Long id;
+    private String title;
+    private String preview;
+    private int viewCount;
+    private int commentCount;
+    private int likeCount;
+    private double hotScore;
+    private Long authorId;
+    private String authorName;
+    private Long boardId;
+    private String boardName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private boolean isLiked;
+
+    // JPQL 생성자 프로젝션용 (isLiked 제외)
+    public PostSummaryResponse(Long id, String title, String preview, int viewCount, int commentCount, int likeCount,
+                               double hotScore, Long authorId, String authorName, Long boardId, String boardName,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, preview, viewCount, commentCount, likeCount, hotScore, authorId, authorName,
+                boardId, boardName, createdAt, updatedAt, false);
+    }
+}
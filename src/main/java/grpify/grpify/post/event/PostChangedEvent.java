@@ -0,0 +1,14 @@
+package grpify.grpify.post.event;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트
+ * 트랜잭션 커밋 후 목록 캐시 무효화 등에 사용
+ */
+public record PostChangedEvent(Long boardId, Long postId, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
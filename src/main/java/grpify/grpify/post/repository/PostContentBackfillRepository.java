@@ -0,0 +1,62 @@
+package grpify.grpify.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 본문 분리 전 게시글 보정용 (PostContentBackfillService)
+ * 엔티티에서 빠진 post.content 컬럼을 직접 읽음 -> 컬럼을 DROP 하기 전에만 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostContentBackfillRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record LegacyContentRow(long postId, String content, boolean missingBody, boolean missingPreview) {
+    }
+
+    // post.content 컬럼이 아직 남아 있는지 (이미 DROP 했으면 보정할 것 없음)
+    public boolean hasLegacyContentColumn() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'post' AND COLUMN_NAME = 'content'
+                """, Integer.class);
+        return count != null && count > 0;
+    }
+
+    /**
+     * afterPostId 다음부터 본문 row 가 없거나 미리보기가 비어 있는 게시글, post_id 순서로
+     */
+    public List<LegacyContentRow> findLegacyRows(long afterPostId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT p.post_id, p.content, pc.post_id IS NULL AS missing_body, p.preview IS NULL AS missing_preview
+                FROM post p
+                LEFT JOIN post_content pc ON pc.post_id = p.post_id
+                WHERE p.post_id > ? AND p.content IS NOT NULL
+                  AND (pc.post_id IS NULL OR p.preview IS NULL)
+                ORDER BY p.post_id
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new LegacyContentRow(
+                        rs.getLong("post_id"), rs.getString("content"),
+                        rs.getBoolean("missing_body"), rs.getBoolean("missing_preview")),
+                afterPostId, limit);
+    }
+
+    // 그사이 수정으로 본문 row 가 생겼으면 그 값을 유지 (키 중복만 무시)
+    public void insertBodies(List<LegacyContentRow> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO post_content (post_id, body) VALUES (?, ?)
+                ON DUPLICATE KEY UPDATE post_id = post_id
+                """,
+                rows.stream().map(row -> new Object[]{row.postId(), row.content()}).toList());
+    }
+
+    public void updatePreviews(List<Object[]> previewAndPostIds) {
+        jdbcTemplate.batchUpdate("UPDATE post SET preview = ? WHERE post_id = ? AND preview IS NULL", previewAndPostIds);
+    }
+}
@@ -0,0 +1,7 @@
+package grpify.grpify.post.repository;
+
+import grpify.grpify.post.domain.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+}
@@ -0,0 +1,73 @@
+package grpify.grpify.post.repository;
+
+import grpify.grpify.post.domain.PostCounterShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostCounterShardRepository extends JpaRepository<PostCounterShard, PostCounterShard.ShardId> {
+
+    /**
+     * 샤드 row 가 없으면 생성, 있으면 더하기 (upsert)
+     * 서로 다른 샤드에 쓰는 트랜잭션끼리는 락 경합 x
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_counter_shard (post_id, shard, view_count, like_count)
+            VALUES (:postId, :shard, :views, :likes)
+            ON DUPLICATE KEY UPDATE
+                view_count = view_count + VALUES(view_count),
+                like_count = like_count + VALUES(like_count)
+            """, nativeQuery = true)
+    void add(@Param("postId") Long postId,
+             @Param("shard") int shard,
+             @Param("views") int views,
+             @Param("likes") int likes);
+
+    interface ShardTotal {
+        Long getViews();
+        Long getLikes();
+    }
+
+    @Query("""
+            SELECT COALESCE(SUM(s.viewCount), 0) AS views,
+                   COALESCE(SUM(s.likeCount), 0) AS likes
+            FROM PostCounterShard s
+            WHERE s.id.postId = :postId
+            """)
+    ShardTotal sumByPostId(@Param("postId") Long postId);
+
+    /**
+     * compaction 대상 샤드, 합치는 동안 다른 compaction 과 겹치지 않도록 FOR UPDATE
+     * post_id, shard 순서로 락을 잡아서 교착 방지
+     */
+    @Query(value = """
+            SELECT * FROM post_counter_shard
+            WHERE view_count <> 0 OR like_count <> 0
+            ORDER BY post_id, shard
+            LIMIT :limit
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<PostCounterShard> findPendingForUpdate(@Param("limit") int limit);
+
+    /**
+     * post 로 옮긴 만큼만 빼기 -> compaction 도중에 들어온 증가분은 샤드에 남음
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE post_counter_shard
+            SET view_count = view_count - :views, like_count = like_count - :likes
+            WHERE post_id = :postId AND shard = :shard
+            """, nativeQuery = true)
+    void subtract(@Param("postId") Long postId,
+                  @Param("shard") int shard,
+                  @Param("views") int views,
+                  @Param("likes") int likes);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_counter_shard WHERE view_count = 0 AND like_count = 0", nativeQuery = true)
+    int deleteEmpty();
+}
@@ -0,0 +1,26 @@
+package grpify.grpify.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 점수 일괄 반영 (JDBC batch, 게시글마다 영속성 컨텍스트에 올리지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostHotScoreRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateAll(Map<Long, Double> scores) {
+        List<Object[]> args = new ArrayList<>(scores.size());
+        scores.forEach((postId, score) -> args.add(new Object[]{score, postId}));
+
+        jdbcTemplate.batchUpdate("UPDATE post SET hot_score = ? WHERE post_id = ?", args);
+    }
+}
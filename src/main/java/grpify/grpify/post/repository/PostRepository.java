@@ -2,6 +2,7 @@ package grpify.grpify.post.repository;
 
 import grpify.grpify.board.domain.Board;
 import grpify.grpify.post.domain.Post;
+import grpify.grpify.post.dto.PostSummaryResponse;
 import jakarta.persistence.LockModeType;
 import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
@@ -12,6 +13,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +37,17 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     Optional<Post> findByIdAndIsDeletedFalse(Long id);
 
+    /**
+     * 게시글과 게시판이 모두 살아있는 경우만 조회
+     * 게시판 삭제 시 하위 게시글은 바로 수정하지 않음 (부모만 삭제 표시) -> 읽을 때 부모 상태로 판단
+     */
+    @Query("""
+            SELECT p FROM Post p
+            JOIN FETCH p.board b
+            WHERE p.id = :postId AND p.isDeleted = false AND b.isDeleted = false
+            """)
+    Optional<Post> findLiveById(@Param("postId") Long postId);
+
     @Modifying(clearAutomatically = true)
     @Query("""
             UPDATE Post p
@@ -53,13 +67,231 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     void bulkSoftDeleteByBoardIdNative(@Param("boardId") Long boardId);
 
 
-    // 추후에 배치 처리로 변경 고려
+    // 실제 조회수 반영은 CounterBuffer 가 모아서 배치로 처리, 성능 비교용으로 남겨둠
     @Modifying
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
     void incrementViewCount(@Param("postId") Long postId);
 
     Page<Post> findByBoardAndIsDeletedFalse(Board board, Pageable pageable);
 
+    /**
+     * 삭제된 게시판의 게시글을 뒤늦게 삭제 표시 (TombstoneSweeper)
+     * 단일 테이블 UPDATE 라 LIMIT 사용 가능 -> 한 번에 batchSize 개씩만 락
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE post
+            SET is_deleted = 1, updated_at = NOW()
+            WHERE is_deleted = 0
+            AND board_id IN (SELECT board_id FROM board WHERE is_deleted = 1)
+            LIMIT :batchSize
+            """, nativeQuery = true)
+    int sweepPostsOfDeletedBoards(@Param("batchSize") int batchSize);
+
+    /**
+     * 게시판 목록 (OFFSET 페이징)
+     * findByBoardAndIsDeletedFalse + PostResponse.from 은 게시글마다 author, board 지연 로딩 -> N+1
+     * -> 조인해서 목록에 필요한 컬럼만 생성자 프로젝션 (본문 대신 preview)
+     * 정렬은 pageable 로 받음 (p.createdAt, p.viewCount, p.likeCount)
+     */
+    @Query(value = """
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE b.id = :boardId AND p.isDeleted = false
+            """,
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board.id = :boardId AND p.isDeleted = false")
+    Page<PostSummaryResponse> findSummariesByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    /**
+     * 키셋(커서) 페이징
+     * OFFSET 은 앞 페이지 row 를 모두 읽고 버리기 때문에 뒤 페이지로 갈수록 느려짐
+     * -> 마지막으로 본 (정렬값, post_id) 다음부터 인덱스를 타고 바로 시작, 페이지 깊이와 상관없이 일정한 비용
+     * 인덱스: (board_id, is_deleted, 정렬 컬럼, post_id)
+     * pageable 은 limit(size + 1) 용도로만 사용, COUNT 쿼리 x
+     * 목록 프로젝션(PostSummaryResponse) 으로 작성자, 게시판까지 한 번에 조회
+     */
+    @Query("""
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE b.id = :boardId AND p.isDeleted = false
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryResponse> findFirstByLatest(@Param("boardId") Long boardId, Pageable pageable);
+
+    @Query("""
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE b.id = :boardId AND p.isDeleted = false
+            AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :postId))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryResponse> findNextByLatest(@Param("boardId") Long boardId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("postId") Long postId,
+                                               Pageable pageable);
+
+    @Query("""
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE b.id = :boardId AND p.isDeleted = false
+            ORDER BY p.viewCount DESC, p.id DESC
+            """)
+    List<PostSummaryResponse> findFirstByViewCount(@Param("boardId") Long boardId, Pageable pageable);
+
+    @Query("""
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE b.id = :boardId AND p.isDeleted = false
+            AND (p.viewCount < :viewCount OR (p.viewCount = :viewCount AND p.id < :postId))
+            ORDER BY p.viewCount DESC, p.id DESC
+            """)
+    List<PostSummaryResponse> findNextByViewCount(@Param("boardId") Long boardId,
+                                                  @Param("viewCount") int viewCount,
+                                                  @Param("postId") Long postId,
+                                                  Pageable pageable);
+
+    @Query("""
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE b.id = :boardId AND p.isDeleted = false
+            ORDER BY p.likeCount DESC, p.id DESC
+            """)
+    List<PostSummaryResponse> findFirstByLikeCount(@Param("boardId") Long boardId, Pageable pageable);
+
+    @Query("""
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE b.id = :boardId AND p.isDeleted = false
+            AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :postId))
+            ORDER BY p.likeCount DESC, p.id DESC
+            """)
+    List<PostSummaryResponse> findNextByLikeCount(@Param("boardId") Long boardId,
+                                                  @Param("likeCount") int likeCount,
+                                                  @Param("postId") Long postId,
+                                                  Pageable pageable);
+
+    /**
+     * 인기순 (hot_score, HotScore 참고)
+     */
+    @Query("""
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE b.id = :boardId AND p.isDeleted = false
+            ORDER BY p.hotScore DESC, p.id DESC
+            """)
+    List<PostSummaryResponse> findFirstByHotScore(@Param("boardId") Long boardId, Pageable pageable);
+
+    @Query("""
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE b.id = :boardId AND p.isDeleted = false
+            AND (p.hotScore < :hotScore OR (p.hotScore = :hotScore AND p.id < :postId))
+            ORDER BY p.hotScore DESC, p.id DESC
+            """)
+    List<PostSummaryResponse> findNextByHotScore(@Param("boardId") Long boardId,
+                                                 @Param("hotScore") double hotScore,
+                                                 @Param("postId") Long postId,
+                                                 Pageable pageable);
+
+    /**
+     * id 목록으로 목록 프로젝션 조회 (검색 결과 등, 순서는 호출하는 쪽에서 맞춤)
+     */
+    @Query("""
+            SELECT new grpify.grpify.post.dto.PostSummaryResponse(
+                p.id, p.title, p.preview, p.viewCount, p.commentCount, p.likeCount, p.hotScore,
+                a.id, a.name, b.id, b.name, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.author a
+            JOIN p.board b
+            WHERE p.id IN :postIds AND p.isDeleted = false AND b.isDeleted = false
+            """)
+    List<PostSummaryResponse> findSummariesByIds(@Param("postIds") Collection<Long> postIds);
+
+    interface HotScoreSource {
+        Long getId();
+        int getLikeCount();
+        int getCommentCount();
+        int getViewCount();
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * 인기 점수 재계산 대상의 현재 카운터 값
+     */
+    @Query("""
+            SELECT p.id AS id, p.likeCount AS likeCount, p.commentCount AS commentCount,
+                   p.viewCount AS viewCount, p.createdAt AS createdAt
+            FROM Post p
+            WHERE p.id IN :postIds
+            """)
+    List<HotScoreSource> findHotScoreSources(@Param("postIds") Collection<Long> postIds);
+
+    // 인기 점수가 한 번도 계산되지 않은 게시글 (hot_score 컬럼 추가 전 게시글), afterId 다음부터 id 순서로
+    @Query("SELECT p.id FROM Post p WHERE p.id > :afterId AND p.hotScore = 0 ORDER BY p.id")
+    List<Long> findIdsWithoutHotScore(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 카운터 샤딩 대상 게시판에 속한 게시글만 골라냄
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :postIds AND p.board.id IN :boardIds")
+    List<Long> findIdsOnBoards(@Param("postIds") Collection<Long> postIds,
+                               @Param("boardIds") Collection<Long> boardIds);
+
+    // 좋아요 응답용, 게시글/게시판이 삭제됐으면 empty
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId AND p.isDeleted = false AND p.board.isDeleted = false")
+    Optional<Integer> findLiveLikeCount(@Param("postId") Long postId);
+
+    // 샤드 compaction, 샤드에 쌓인 값을 post 로 합침
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :views, p.likeCount = p.likeCount + :likes WHERE p.id = :postId")
+    void addCounters(@Param("postId") Long postId,
+                     @Param("views") int views,
+                     @Param("likes") int likes);
+
 
     // 비관적 락을 위한 메서드
     @Query("SELECT p FROM Post p WHERE p.id = :postId")
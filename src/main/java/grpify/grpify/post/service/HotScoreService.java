@@ -0,0 +1,152 @@
+package grpify.grpify.post.service;
+
+import grpify.grpify.common.counter.CounterChangedEvent;
+import grpify.grpify.common.counter.CounterType;
+import grpify.grpify.common.exception.DuplicateException;
+import grpify.grpify.post.domain.HotScore;
+import grpify.grpify.post.dto.PostBackfillResponse;
+import grpify.grpify.post.repository.PostHotScoreRepository;
+import grpify.grpify.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인기 점수(hot_score) 갱신
+ *
+ * 조회수/좋아요 flush, 댓글 작성/삭제, 샤드 compaction 때 해당 게시글만 dirty 로 표시
+ * -> 주기적으로 dirty 게시글만 현재 카운터 값으로 다시 계산 (게시판 전체 재계산 x)
+ *
+ * 시간 항이 작성 시각에 고정돼 있어서(HotScore) 활동 없는 게시글은 재계산하지 않아도 순서가 맞음
+ * dirty 목록은 메모리에만 있음 -> 재시작 시 잃어버린 게시글은 다음 활동 때 다시 계산됨
+ *
+ * hot_score 컬럼 추가 전 게시글은 0 으로 남아 인기순에서 새 글보다 항상 뒤로 밀림
+ * -> backfill 로 한 번 일괄 계산 (관리자 실행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HotScoreService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES = 20;
+
+    private final PostRepository postRepository;
+    private final PostHotScoreRepository postHotScoreRepository;
+
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
+
+    public void markDirty(Long postId) {
+        dirtyPostIds.add(postId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCounterChanged(CounterChangedEvent event) {
+        if (event.type() == CounterType.POST_VIEW || event.type() == CounterType.POST_LIKE
+                || event.type() == CounterType.POST_COMMENT) {
+            dirtyPostIds.addAll(event.deltas().keySet());
+        }
+    }
+
+    /**
+     * 한 번에 최대 MAX_BATCHES * BATCH_SIZE 건, 남은 게시글은 다음 주기에
+     * 실패하면 트랜잭션 전체가 롤백되므로 이번 주기에 꺼낸 게시글 모두 다시 dirty 로 되돌림
+     */
+    @Scheduled(fixedDelayString = "${grpify.post.hot-score.interval-ms:10000}")
+    @Transactional
+    public void recalculate() {
+        List<Long> taken = new ArrayList<>();
+        for (int batch = 0; batch < MAX_BATCHES; batch++) {
+            List<Long> postIds = takeDirty();
+            if (postIds.isEmpty()) {
+                return;
+            }
+            taken.addAll(postIds);
+
+            try {
+                Map<Long, Double> scores = new TreeMap<>();
+                for (PostRepository.HotScoreSource source : postRepository.findHotScoreSources(postIds)) {
+                    scores.put(source.getId(), HotScore.calculate(
+                            source.getLikeCount(), source.getCommentCount(), source.getViewCount(), source.getCreatedAt()));
+                }
+                postHotScoreRepository.updateAll(scores);
+                log.debug("인기 점수 재계산: {}건", scores.size());
+            } catch (RuntimeException e) {
+                dirtyPostIds.addAll(taken);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * hot_score = 0 인 게시글을 id 순서로 BATCH_SIZE 씩 계산
+     * 배치마다 바로 반영 (트랜잭션 하나로 묶지 않음), 다시 실행하면 남은 게시글부터
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostBackfillResponse backfill(int maxBatches) {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            throw new DuplicateException("이미 인기 점수 계산 작업이 실행 중입니다.");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long posts = 0;
+        int batches = 0;
+        boolean completed = false;
+        long lastPostId = 0;
+        try {
+            while (batches < maxBatches) {
+                List<Long> postIds = postRepository.findIdsWithoutHotScore(lastPostId, PageRequest.of(0, BATCH_SIZE));
+                if (postIds.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+                Map<Long, Double> scores = new TreeMap<>();
+                for (PostRepository.HotScoreSource source : postRepository.findHotScoreSources(postIds)) {
+                    scores.put(source.getId(), HotScore.calculate(
+                            source.getLikeCount(), source.getCommentCount(), source.getViewCount(), source.getCreatedAt()));
+                }
+                postHotScoreRepository.updateAll(scores);
+
+                posts += scores.size();
+                batches++;
+                lastPostId = postIds.get(postIds.size() - 1);
+            }
+        } finally {
+            backfillRunning.set(false);
+        }
+
+        log.info("인기 점수 일괄 계산 {}: 게시글 {}개, 배치 {}회", completed ? "완료" : "중단", posts, batches);
+        return PostBackfillResponse.builder()
+                .posts(posts)
+                .batches(batches)
+                .completed(completed)
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .build();
+    }
+
+    private List<Long> takeDirty() {
+        List<Long> postIds = new ArrayList<>(BATCH_SIZE);
+        Iterator<Long> iterator = dirtyPostIds.iterator();
+        while (iterator.hasNext() && postIds.size() < BATCH_SIZE) {
+            postIds.add(iterator.next());
+            iterator.remove();
+        }
+        return postIds;
+    }
+}
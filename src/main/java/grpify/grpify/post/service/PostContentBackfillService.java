@@ -0,0 +1,100 @@
+package grpify.grpify.post.service;
+
+import grpify.grpify.common.exception.DuplicateException;
+import grpify.grpify.post.domain.Post;
+import grpify.grpify.post.dto.PostBackfillResponse;
+import grpify.grpify.post.repository.PostContentBackfillRepository;
+import grpify.grpify.post.repository.PostContentBackfillRepository.LegacyContentRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 본문 분리(post_content) 전 게시글 보정
+ *
+ * 분리 전 게시글은 post_content row 가 없고 preview 가 null -> 상세 조회에서 본문을, 목록에서 미리보기를 볼 수 없음
+ * 남아 있는 post.content 컬럼에서 본문을 복사하고 미리보기를 채움
+ *  - 기동 시 컬럼이 남아 있으면 백그라운드에서 자동 실행, 관리자가 다시 실행할 수도 있음
+ *  - post_id 순서로 BATCH_SIZE 씩, 배치마다 커밋 -> 중간에 멈춰도 다시 실행하면 남은 게시글부터
+ * 전부 끝난 뒤(completed = true)에만 post.content 컬럼을 DROP
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostContentBackfillService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PostContentBackfillRepository backfillRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillRepository.hasLegacyContentColumn()) {
+            return;
+        }
+        Thread thread = new Thread(() -> backfill(Integer.MAX_VALUE), "post-content-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public PostBackfillResponse backfill(int maxBatches) {
+        if (!backfillRepository.hasLegacyContentColumn()) {
+            return PostBackfillResponse.builder().completed(true).build();
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new DuplicateException("이미 본문 보정 작업이 실행 중입니다.");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long posts = 0;
+        int batches = 0;
+        boolean completed = false;
+        long lastPostId = 0;
+        try {
+            while (batches < maxBatches) {
+                List<LegacyContentRow> rows = backfillRepository.findLegacyRows(lastPostId, BATCH_SIZE);
+                if (rows.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> copy(rows));
+
+                posts += rows.size();
+                batches++;
+                lastPostId = rows.get(rows.size() - 1).postId();
+            }
+        } finally {
+            running.set(false);
+        }
+
+        log.info("게시글 본문 보정 {}: 게시글 {}개, 배치 {}회", completed ? "완료" : "중단", posts, batches);
+        return PostBackfillResponse.builder()
+                .posts(posts)
+                .batches(batches)
+                .completed(completed)
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .build();
+    }
+
+    private void copy(List<LegacyContentRow> rows) {
+        List<LegacyContentRow> missingBodies = rows.stream().filter(LegacyContentRow::missingBody).toList();
+        if (!missingBodies.isEmpty()) {
+            backfillRepository.insertBodies(missingBodies);
+        }
+        List<Object[]> previews = rows.stream()
+                .filter(LegacyContentRow::missingPreview)
+                .map(row -> new Object[]{Post.previewOf(row.content()), row.postId()})
+                .toList();
+        if (!previews.isEmpty()) {
+            backfillRepository.updatePreviews(previews);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package grpify.grpify.post.service;
+
+import grpify.grpify.common.counter.CounterShardRouter;
+import grpify.grpify.common.counter.CounterType;
+import grpify.grpify.post.domain.PostCounterShard;
+import grpify.grpify.post.repository.PostCounterShardRepository;
+import grpify.grpify.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글 카운터 샤딩
+ *
+ * 좋아요 폭주 시 모든 트랜잭션이 post.like_count 한 row 의 락을 기다림
+ * -> 설정된 게시판(인기 게시판)의 게시글은 post_counter_shard 의 임의 샤드 row 에 나눠서 기록
+ * -> 읽을 때는 post 값 + 샤드 합계, 주기적으로 post 에 합침
+ *
+ * 카운터 종류별로 따로 켤 수 있음
+ * grpify.counter.shard.view-board-ids=1,2
+ * grpify.counter.shard.like-board-ids=1
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PostCounterShardService implements CounterShardRouter {
+
+    private static final int COMPACTION_BATCH_SIZE = 1000;
+
+    private final PostCounterShardRepository shardRepository;
+    private final PostRepository postRepository;
+    private final HotScoreService hotScoreService;
+    private final int shardCount;
+    private final Map<CounterType, Set<Long>> shardedBoards = new EnumMap<>(CounterType.class);
+
+    public PostCounterShardService(PostCounterShardRepository shardRepository,
+                                   PostRepository postRepository,
+                                   HotScoreService hotScoreService,
+                                   @Value("${grpify.counter.shard.count:8}") int shardCount,
+                                   @Value("${grpify.counter.shard.view-board-ids:}") List<Long> viewBoardIds,
+                                   @Value("${grpify.counter.shard.like-board-ids:}") List<Long> likeBoardIds) {
+        this.shardRepository = shardRepository;
+        this.postRepository = postRepository;
+        this.hotScoreService = hotScoreService;
+        this.shardCount = shardCount;
+        this.shardedBoards.put(CounterType.POST_VIEW, new HashSet<>(viewBoardIds));
+        this.shardedBoards.put(CounterType.POST_LIKE, new HashSet<>(likeBoardIds));
+    }
+
+    public boolean isSharded(CounterType type, Long boardId) {
+        return shardedBoards.getOrDefault(type, Set.of()).contains(boardId);
+    }
+
+    public boolean hasShardedBoards(CounterType type) {
+        return !shardedBoards.getOrDefault(type, Set.of()).isEmpty();
+    }
+
+    public boolean isSharded(Long boardId) {
+        return isSharded(CounterType.POST_VIEW, boardId) || isSharded(CounterType.POST_LIKE, boardId);
+    }
+
+    /**
+     * 임의의 샤드에 증감량 기록 (post row 는 건드리지 않음)
+     */
+    @Transactional
+    public void add(CounterType type, Long postId, int delta) {
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        if (type == CounterType.POST_VIEW) {
+            shardRepository.add(postId, shard, delta, 0);
+        } else if (type == CounterType.POST_LIKE) {
+            shardRepository.add(postId, shard, 0, delta);
+        } else {
+            throw new IllegalArgumentException("샤딩을 지원하지 않는 카운터입니다: " + type);
+        }
+    }
+
+    /**
+     * 아직 post 에 합쳐지지 않은 샤드 합계
+     */
+    public PostCounterShardRepository.ShardTotal sum(Long postId) {
+        return shardRepository.sumByPostId(postId);
+    }
+
+    /**
+     * CounterBuffer flush 시 호출, 샤딩 대상 게시판의 게시글 증감량은 샤드로 보냄
+     */
+    @Override
+    @Transactional
+    public Map<Long, Long> route(CounterType type, Map<Long, Long> deltas) {
+        Set<Long> boardIds = shardedBoards.getOrDefault(type, Set.of());
+        if (boardIds.isEmpty() || deltas.isEmpty()) {
+            return deltas;
+        }
+
+        List<Long> shardedPostIds = postRepository.findIdsOnBoards(deltas.keySet(), boardIds);
+        if (shardedPostIds.isEmpty()) {
+            return deltas;
+        }
+
+        Map<Long, Long> remaining = new TreeMap<>(deltas);
+        for (Long postId : shardedPostIds) {
+            add(type, postId, Math.toIntExact(remaining.remove(postId)));
+        }
+        return remaining;
+    }
+
+    /**
+     * 샤드에 쌓인 값을 post 로 합침
+     * 옮긴 만큼만 샤드에서 빼기 때문에 합치는 동안 들어온 증가분도 유실되지 않음
+     */
+    @Scheduled(fixedDelayString = "${grpify.counter.shard.compact-interval-ms:60000}")
+    @Transactional
+    public void compact() {
+        List<PostCounterShard> shards = shardRepository.findPendingForUpdate(COMPACTION_BATCH_SIZE);
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        for (PostCounterShard shard : shards) {
+            Long postId = shard.getId().getPostId();
+            postRepository.addCounters(postId, shard.getViewCount(), shard.getLikeCount());
+            shardRepository.subtract(postId, shard.getId().getShard(), shard.getViewCount(), shard.getLikeCount());
+            hotScoreService.markDirty(postId);
+        }
+        int deleted = shardRepository.deleteEmpty();
+
+        log.debug("카운터 샤드 compaction: {}개 샤드 합침, {}개 삭제", shards.size(), deleted);
+    }
+}
@@ -0,0 +1,163 @@
+package grpify.grpify.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import grpify.grpify.board.event.BoardDeletedEvent;
+import grpify.grpify.common.counter.CounterChangedEvent;
+import grpify.grpify.common.counter.CounterType;
+import grpify.grpify.post.dto.PostSort;
+import grpify.grpify.post.dto.PostSummaryResponse;
+import grpify.grpify.post.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 앞쪽 페이지 캐시
+ *
+ * 트래픽 대부분이 몇몇 게시판의 첫 페이지 -> 매번 목록 쿼리 + COUNT 를 다시 실행할 필요 x
+ * 게시판, 정렬, 페이지, 크기별로 앞쪽 N 페이지만 캐시 (grpify.post.list-cache.pages)
+ *
+ * 무효화
+ *  - 게시글 생성/수정/삭제, 게시판 삭제 -> 커밋 후 해당 게시판 캐시 전부 버림
+ *  - 조회수/좋아요/댓글 수 변경 -> 버리지 않고 캐시된 항목의 값만 고침 (순서는 TTL 이 지나 다시 읽을 때 맞춰짐)
+ *
+ * 게시판마다 세대 번호를 키에 포함 -> 무효화 직전에 시작된 조회가 늦게 저장돼도 이전 세대 키라 읽히지 않음
+ */
+@Component
+public class PostListCache {
+
+    private final Cache<Key, Entry> cache;
+    private final int cachedPages;
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public PostListCache(@Value("${grpify.post.list-cache.pages:3}") int cachedPages,
+                         @Value("${grpify.post.list-cache.max-size:1000}") long maxSize,
+                         @Value("${grpify.post.list-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cachedPages = cachedPages;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    private record Key(Long boardId, long generation, String sort, int page, int size) {
+    }
+
+    /**
+     * 값 보정은 캐시에 다시 쓰지 않고 항목 목록만 교체 -> 쓰기로 취급돼 만료 시간이 늘어나지 않음
+     */
+    private record Entry(AtomicReference<List<PostSummaryResponse>> items, long total) {
+
+        Entry(List<PostSummaryResponse> items, long total) {
+            this(new AtomicReference<>(items), total);
+        }
+    }
+
+    /**
+     * OFFSET 페이징 목록, 앞쪽 N 페이지만 캐시
+     */
+    public Page<PostSummaryResponse> getPage(Long boardId, Pageable pageable, Supplier<Page<PostSummaryResponse>> loader) {
+        if (pageable.getPageNumber() >= cachedPages) {
+            return loader.get();
+        }
+
+        Key key = new Key(boardId, generation(boardId), pageable.getSort().toString(),
+                pageable.getPageNumber(), pageable.getPageSize());
+        Entry entry = cache.get(key, k -> {
+            Page<PostSummaryResponse> page = loader.get();
+            return new Entry(page.getContent(), page.getTotalElements());
+        });
+        return new PageImpl<>(entry.items().get(), pageable, entry.total());
+    }
+
+    /**
+     * 커서 페이징 첫 페이지 (size + 1 개 조회 결과 그대로 캐시)
+     */
+    public List<PostSummaryResponse> getFirstCursorPage(Long boardId, PostSort sort, int size,
+                                                        Supplier<List<PostSummaryResponse>> loader) {
+        Key key = new Key(boardId, generation(boardId), "cursor:" + sort.name(), 0, size);
+        return cache.get(key, k -> new Entry(loader.get(), -1)).items().get();
+    }
+
+    public void invalidateBoard(Long boardId) {
+        generations.computeIfAbsent(boardId, id -> new AtomicLong()).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.boardId().equals(boardId));
+    }
+
+    private long generation(Long boardId) {
+        AtomicLong generation = generations.get(boardId);
+        return generation == null ? 0 : generation.get();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidateBoard(event.boardId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        invalidateBoard(event.boardId());
+    }
+
+    /**
+     * 조회수/좋아요/댓글 수 반영 시 캐시된 항목의 값만 수정
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCounterChanged(CounterChangedEvent event) {
+        if (event.type() != CounterType.POST_VIEW && event.type() != CounterType.POST_LIKE
+                && event.type() != CounterType.POST_COMMENT) {
+            return;
+        }
+        Map<Long, Long> deltas = event.deltas();
+
+        for (Entry entry : cache.asMap().values()) {
+            entry.items().updateAndGet(items -> patch(items, event.type(), deltas));
+        }
+    }
+
+    private static List<PostSummaryResponse> patch(List<PostSummaryResponse> items, CounterType type, Map<Long, Long> deltas) {
+        List<PostSummaryResponse> patched = null;
+
+        for (int i = 0; i < items.size(); i++) {
+            PostSummaryResponse item = items.get(i);
+            Long delta = deltas.get(item.getId());
+            if (delta == null) {
+                continue;
+            }
+            if (patched == null) {
+                patched = new ArrayList<>(items);
+            }
+            int amount = delta.intValue();
+            patched.set(i, switch (type) {
+                case POST_VIEW -> item.toBuilder().viewCount(item.getViewCount() + amount).build();
+                case POST_COMMENT -> item.toBuilder().commentCount(item.getCommentCount() + amount).build();
+                default -> item.toBuilder().likeCount(item.getLikeCount() + amount).build();
+            });
+        }
+
+        return patched == null ? items : List.copyOf(patched);
+    }
+}
@@ -13,10 +13,25 @@ import grpify.grpify.comment.repository.CommentRepository;
 import grpify.grpify.comment.service.CommentService;
 import grpify.grpify.commentLike.domain.CommentLike;
 import grpify.grpify.PostLike.dto.LikeResponse;
+import grpify.grpify.PostLike.dto.LikedPostResponse;
+import grpify.grpify.common.counter.CounterBuffer;
+import grpify.grpify.common.counter.CounterType;
+import grpify.grpify.common.like.LikeChangedEvent;
+import grpify.grpify.common.like.LikeTarget;
+import grpify.grpify.common.like.LikedIdsCache;
+import grpify.grpify.common.dto.CursorResponse;
+import grpify.grpify.common.util.CursorCodec;
+import grpify.grpify.common.exception.BadRequestException;
 import grpify.grpify.common.exception.NotFoundException;
 import grpify.grpify.post.domain.Post;
+import grpify.grpify.post.domain.PostContent;
 import grpify.grpify.post.dto.PostRequest;
 import grpify.grpify.post.dto.PostResponse;
+import grpify.grpify.post.dto.PostSort;
+import grpify.grpify.post.dto.PostSummaryResponse;
+import grpify.grpify.post.event.PostChangedEvent;
+import grpify.grpify.post.repository.PostContentRepository;
+import grpify.grpify.post.repository.PostCounterShardRepository;
 import grpify.grpify.post.repository.PostRepository;
 import grpify.grpify.user.domain.User;
 import grpify.grpify.user.service.UserService;
@@ -24,14 +39,20 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.annotations.Comments;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongPredicate;
 
 @Service
 @RequiredArgsConstructor
@@ -40,44 +61,188 @@ import java.util.Optional;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
     private final PostLikeRepository postLikeRepository; //postLikeService 따로 구현 않고 postservice 에서 직접 사용
     private final UserService userService;
 //    private final CommentService commentService;
     private final CommentRepository commentRepository;
     private final BoardService boardService;
+    private final CounterBuffer counterBuffer;
+    private final PostCounterShardService postCounterShardService;
+    private final PostListCache postListCache;
+    private final LikedIdsCache likedIdsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Post findById(Long postId) {
-        return postRepository.findByIdAndIsDeletedFalse(postId)
+        return postRepository.findLiveById(postId)
                 .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
     }
 
-    public Page<PostResponse> findByBoard(Long boardId, Pageable pageable) {
-        Board board = boardService.findById(boardId);
-
-        return postRepository.findByBoardAndIsDeletedFalse(board, pageable)
-                .map(PostResponse::from);
+    /**
+     * 게시판 게시글 목록
+     * 작성자, 게시판을 조인한 프로젝션으로 조회 -> 페이지당 쿼리 1번 (+ COUNT)
+     * 앞쪽 페이지는 PostListCache 에서 (게시판 삭제 시 캐시도 무효화되므로 게시판 확인도 캐시 미스 때만)
+     * 로그인 사용자면 좋아요 여부도 채움 -> 카드마다 상세 조회를 다시 요청할 필요 x
+     */
+    public Page<PostSummaryResponse> findByBoard(Long boardId, Pageable pageable, Long currentUserId) {
+        Page<PostSummaryResponse> page = postListCache.getPage(boardId, pageable, () -> {
+            boardService.findById(boardId);
+            return postRepository.findSummariesByBoardId(boardId, pageable);
+        });
+        if (currentUserId == null) {
+            return page;
+        }
+        LongPredicate liked = likedIdsCache.likedBy(LikeTarget.POST, currentUserId);
+        return page.map(post -> markLiked(post, liked));
     }
 
-    public PostResponse read(Long postId, Long currentUserId) {
-        Post post = findById(postId);
-        boolean isLiked = false;
+    /**
+     * 게시판 게시글 목록 (커서 방식)
+     * 커서 = 마지막으로 본 게시글의 (정렬값, post_id), 첫 페이지는 cursor 없이 요청
+     * size + 1 개 조회해서 다음 페이지 여부 판단 -> COUNT 쿼리 x
+     */
+    public CursorResponse<PostSummaryResponse> findByBoardCursor(Long boardId, PostSort sort, String cursor, int size,
+                                                                 Long currentUserId) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<PostSummaryResponse> posts;
+
+        if (cursor == null || cursor.isBlank()) {
+            posts = postListCache.getFirstCursorPage(boardId, sort, size, () -> {
+                boardService.findById(boardId);
+                return switch (sort) {
+                    case LATEST -> postRepository.findFirstByLatest(boardId, limit);
+                    case VIEW -> postRepository.findFirstByViewCount(boardId, limit);
+                    case LIKE -> postRepository.findFirstByLikeCount(boardId, limit);
+                    case HOT -> postRepository.findFirstByHotScore(boardId, limit);
+                };
+            });
+        } else {
+            boardService.findById(boardId);
+            String[] parts = CursorCodec.decode(cursor, 2);
+            Long lastId = parseCursorId(parts[1]);
+            posts = switch (sort) {
+                case LATEST -> postRepository.findNextByLatest(boardId, parseCursorTime(parts[0]), lastId, limit);
+                case VIEW -> postRepository.findNextByViewCount(boardId, parseCursorInt(parts[0]), lastId, limit);
+                case LIKE -> postRepository.findNextByLikeCount(boardId, parseCursorInt(parts[0]), lastId, limit);
+                case HOT -> postRepository.findNextByHotScore(boardId, parseCursorDouble(parts[0]), lastId, limit);
+            };
+        }
 
         if (currentUserId != null) {
-            isLiked = postLikeRepository.existsByUser_IdAndPost(currentUserId, post);
+            LongPredicate liked = likedIdsCache.likedBy(LikeTarget.POST, currentUserId);
+            posts = posts.stream().map(post -> markLiked(post, liked)).toList();
+        }
+
+        return CursorResponse.of(posts, size, last -> switch (sort) {
+            case LATEST -> CursorCodec.encode(last.getCreatedAt(), last.getId());
+            case VIEW -> CursorCodec.encode(last.getViewCount(), last.getId());
+            case LIKE -> CursorCodec.encode(last.getLikeCount(), last.getId());
+            case HOT -> CursorCodec.encode(last.getHotScore(), last.getId());
+        });
+    }
+
+    /**
+     * 좋아요한 게시글 목록 (커서 방식, 최근 좋아요 순)
+     * 커서 = 마지막 항목의 (좋아요 시각, post_like_id), 첫 페이지는 cursor 없이 요청
+     */
+    public CursorResponse<LikedPostResponse> findLikedPosts(Long userId, String cursor, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<LikedPostResponse> posts;
+
+        if (cursor == null || cursor.isBlank()) {
+            posts = postLikeRepository.findFirstLikedPosts(userId, limit);
+        } else {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            posts = postLikeRepository.findNextLikedPosts(userId, parseCursorTime(parts[0]), parseCursorId(parts[1]), limit);
         }
 
+        return CursorResponse.of(posts, size, last -> CursorCodec.encode(last.getLikedAt(), last.getLikeId()));
+    }
+
+    // 캐시된 항목은 공유 객체 -> 고치지 않고 복사본에 표시
+    private static PostSummaryResponse markLiked(PostSummaryResponse post, LongPredicate liked) {
+        return liked.test(post.getId()) ? post.toBuilder().isLiked(true).build() : post;
+    }
+
+    private static Long parseCursorId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    private static int parseCursorInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    private static double parseCursorDouble(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    private static LocalDateTime parseCursorTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    public PostResponse read(Long postId, Long currentUserId) {
+        Post post = findById(postId);
+        // 좋아요 여부는 사용자별 좋아요 id 캐시에서 확인 (비로그인은 false)
+        boolean isLiked = likedIdsCache.contains(LikeTarget.POST, currentUserId, postId);
+
         // post.incrementViewCount()
         // 트랜잭션 길어짐, write 작업 분리! <<<<
 
-        return PostResponse.from(post,isLiked);
+        // 본문 전체는 상세 조회에서만 읽음 (분리 전 게시글은 미리보기로 대체)
+        String content = postContentRepository.findById(postId)
+                .map(PostContent::getBody)
+                .orElse(post.getPreview());
+
+        PostResponse response = PostResponse.from(post, content, isLiked);
         // read 메서드 외에는 isLiked 사용 안함
+
+        // 좋아요 수, 댓글 수는 버퍼에 모아서 반영 -> 방금 누른 좋아요, 방금 단 댓글이 바로 보이도록 반영 전 증감량을 더함
+        long pendingLikes = counterBuffer.pending(CounterType.POST_LIKE, postId);
+        long pendingComments = counterBuffer.pending(CounterType.POST_COMMENT, postId);
+        if (pendingLikes != 0 || pendingComments != 0) {
+            response = response.toBuilder()
+                    .likeCount(response.getLikeCount() + (int) pendingLikes)
+                    .commentCount(response.getCommentCount() + (int) pendingComments)
+                    .build();
+        }
+
+        // 카운터 샤딩 게시판이면 아직 합쳐지지 않은 샤드 값까지 더해서 응답
+        if (postCounterShardService.isSharded(post.getBoard().getId())) {
+            PostCounterShardRepository.ShardTotal shardTotal = postCounterShardService.sum(postId);
+            response = response.toBuilder()
+                    .viewCount(post.getViewCount() + shardTotal.getViews().intValue())
+                    .likeCount(response.getLikeCount() + shardTotal.getLikes().intValue())
+                    .build();
+        }
+
+        return response;
     }
 
 
-    @Transactional
+    /**
+     * 조회수 증가
+     * 요청마다 UPDATE 하면 인기 게시글 row 에 락 경합이 몰림 -> 메모리에 모아뒀다가 주기적으로 한 번에 반영
+     * 트랜잭션, DB 접근 없음 (NOT_SUPPORTED 로 클래스 레벨 readOnly 트랜잭션도 열지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void incrementViewCount(Long postId) {
-        // 벌크 업데이트로 동시성 문제 해결
-        postRepository.incrementViewCount(postId);
+        counterBuffer.increment(CounterType.POST_VIEW, postId);
     }
 
     @Transactional
@@ -88,19 +253,21 @@ public class PostService {
 
         Post newPost = Post.builder()
                         .title(request.getTitle())
-                        .content(request.getContent())
+                        .preview(Post.previewOf(request.getContent()))
                         .board(board)
                         .author(author)
                         .build();
 
         postRepository.save(newPost);
+        postContentRepository.save(new PostContent(newPost, request.getContent()));
+        eventPublisher.publishEvent(new PostChangedEvent(boardId, newPost.getId(), PostChangedEvent.Type.CREATED));
 
-        return PostResponse.from(newPost);
+        return PostResponse.from(newPost, request.getContent());
     }
 
     @Transactional
     public PostResponse update(PostRequest request, Long currentUserId) {
-        Post post = postRepository.findByIdAndIsDeletedFalse(request.getId())
+        Post post = postRepository.findLiveById(request.getId())
                 .orElseThrow(() -> new NotFoundException("수정하려는 게시글을 찾을 수 없습니다. ID: " + request.getId()));
 
         // 권한 확인 (작성자만 수정 가능)
@@ -109,18 +276,25 @@ public class PostService {
         }
 
         post.update(request.getTitle(), request.getContent());
+        postContentRepository.findById(post.getId())
+                .ifPresentOrElse(
+                        postContent -> postContent.update(request.getContent()),
+                        () -> postContentRepository.save(new PostContent(post, request.getContent())));
+        eventPublisher.publishEvent(new PostChangedEvent(post.getBoard().getId(), post.getId(), PostChangedEvent.Type.UPDATED));
 
-        return PostResponse.from(post);
+        return PostResponse.from(post, request.getContent());
     }
 
+    /**
+     * 게시글만 삭제 표시 -> 댓글 수와 상관없이 row 하나만 수정
+     * 댓글 조회는 게시글 상태로 걸러내고, 댓글 row 는 TombstoneSweeper 가 나중에 나눠서 삭제 표시
+     */
     @Transactional
     public void softDelete(Long postId) {
         Post post = findById(postId);
 
-        // 하위 요소부터 처리
-        commentRepository.bulkSoftDeleteByPostId(postId);
-
         post.softDelete();
+        eventPublisher.publishEvent(new PostChangedEvent(post.getBoard().getId(), postId, PostChangedEvent.Type.DELETED));
     }
 //      메서드 연쇄적으로 재사용 하고 싶지만 (board - post - comment),
 //      N+1 문제 막기 위해 벌크 업데이트
@@ -130,18 +304,6 @@ public class PostService {
         postRepository.bulkSoftDeleteByBoardIdNative(boardId);
     }
 
-    @Transactional
-    public void incrementCommentCount(Long postId) {
-        Post post = findById(postId); //postId 대신 post 객체를 받아 오는 것 고려
-        post.incrementCommentCount();
-    }
-
-    @Transactional
-    public void decrementCommentCount(Long postId) {
-        Post post = findById(postId);
-        post.decrementCommentCount();
-    }
-
     /**
      * ui, db의 좋아요 여부가 불일치 할 경우 고려.
      * 사용자가 좋아요를 누른 직후 UI에 바로 반영하고, 서버에는 비동기로 반영하는 방식으로 구현한다면?
@@ -157,31 +319,35 @@ public class PostService {
     @Transactional
     public LikeResponse like(Long userId, Long postId, boolean shouldBeLiked) {
 
-        User user = userService.findById(userId);
-        Post post = findById(postId);
-
-        Optional<PostLike> optionalLike = postLikeRepository.findByUserAndPost(user, post);
-        boolean isLiked = optionalLike.isPresent();
+        // 게시글이 없거나 삭제됐으면 예외 (좋아요 추가/삭제 전에 확인)
+        int likeCount = postRepository.findLiveLikeCount(postId)
+                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
 
-        // Case 1: 현재 좋아요가 눌려있고(true) 좋아요 취소해야 함(false) -> 좋아요 취소
-        if (isLiked && !shouldBeLiked) {
-            postLikeRepository.delete(optionalLike.get());
-            post.decrementLikeCount();
+        // User, Post, PostLike 를 조회하지 않고 한 문장으로 추가/삭제
+        // unique (user_id, post_id) 가 중복을 막으므로 조회 후 INSERT 사이의 경쟁 조건 x
+        // 영향받은 row 가 있을 때만(실제로 상태가 바뀐 경우) 카운터 증감 -> 같은 요청이 반복돼도 멱등
+        // insertIfAbsent 는 새로 추가됐을 때만 1 (이미 있으면 2)
+        boolean changed = shouldBeLiked
+                ? postLikeRepository.insertIfAbsent(userId, postId) == 1
+                : postLikeRepository.deleteIfPresent(userId, postId) > 0;
+
+        // like_count 는 요청마다 UPDATE 하지 않고 버퍼에 모아서 주기적으로 반영 -> 인기 게시글 row 락 경합 x
+        // 버퍼는 트랜잭션 밖이므로 post_like 변경이 커밋된 뒤에 더함 (롤백되면 카운터도 그대로)
+        // (샤드 기록, 목록 캐시 보정 이벤트는 flush 시점에 처리)
+        int delta = changed ? (shouldBeLiked ? 1 : -1) : 0;
+        if (changed) {
+            counterBuffer.addAfterCommit(CounterType.POST_LIKE, postId, delta);
+            eventPublisher.publishEvent(new LikeChangedEvent(LikeTarget.POST, userId, postId, shouldBeLiked));
         }
-        // Case 2: 현재 좋아요가 안 눌려있고(false) 좋아요 눌러야 함(true) -> 좋아요 추가
-        else if(!isLiked && shouldBeLiked){
-            PostLike like = PostLike.builder()
-                    .user(user)
-                    .post(post)
-                    .build();
 
-            postLikeRepository.save(like);
-            post.incrementLikeCount();
+        // 응답은 DB 값 + 아직 반영 안 된 증감량 + 이번 요청의 증감량 (커밋 전이라 pending 에 없음) (+ 샤드 값)
+        likeCount += (int) counterBuffer.pending(CounterType.POST_LIKE, postId) + delta;
+        if (postCounterShardService.hasShardedBoards(CounterType.POST_LIKE)) {
+            likeCount += postCounterShardService.sum(postId).getLikes().intValue();
         }
-        // else case: 의도한대로 이미 저장되어있음 -> 아무것도 안하고 유지
 
         return LikeResponse.builder()
-                .likeCount(post.getLikeCount())
+                .likeCount(likeCount)
                 .isLiked(shouldBeLiked)
                 .build();
     }
@@ -196,8 +362,12 @@ public class PostService {
         postRepository.save(post);                          // UPDATE
     }
 
-    // Case 2: 벌크 업데이트 방식 (단일 UPDATE 쿼리) - 이미 구현되어 있음
-    // incrementViewCount() 메서드가 이미 벌크 업데이트 방식
+    // Case 2: 벌크 업데이트 방식 (단일 UPDATE 쿼리)
+    // incrementViewCount() 는 버퍼 방식으로 변경됨, 비교용으로 남겨둠
+    @Transactional
+    public void incrementViewCountBulk(Long postId) {
+        postRepository.incrementViewCount(postId);
+    }
 
     // Case 3: 비관적 락 방식 (Pessimistic Lock)
     @Transactional
@@ -0,0 +1,39 @@
+package grpify.grpify.reconcile.controller;
+
+import grpify.grpify.reconcile.domain.ReconcileTarget;
+import grpify.grpify.reconcile.dto.ReconcileReportResponse;
+import grpify.grpify.reconcile.service.CounterReconciler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 카운터 보정 수동 실행, 최근 결과 조회 (관리자 전용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/reconcile")
+@PreAuthorize("hasRole('ADMIN')")
+public class ReconcileAdminController {
+
+    private final CounterReconciler counterReconciler;
+
+    @GetMapping
+    public ResponseEntity<List<ReconcileReportResponse>> getLastReports() {
+        return ResponseEntity.ok(counterReconciler.lastReports());
+    }
+
+    /**
+     * 기본은 dryRun (어긋난 row 만 보고), dryRun=false 로 요청해야 실제 수정
+     */
+    @PostMapping("/{target}")
+    public ResponseEntity<ReconcileReportResponse> reconcile(
+            @PathVariable ReconcileTarget target,
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+
+        return ResponseEntity.ok(counterReconciler.reconcile(target, dryRun));
+    }
+}
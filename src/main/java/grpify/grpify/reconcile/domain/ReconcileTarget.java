@@ -0,0 +1,25 @@
+package grpify.grpify.reconcile.domain;
+
+import grpify.grpify.common.counter.CounterType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 보정 대상 비정규화 카운터
+ * 저장된 컬럼(table.countColumn) 과 원본 테이블(sourceTable) 의 row 수를 비교
+ * counterType: CounterBuffer 로 모아서 반영하는 카운터면 아직 반영 안 된 증감량을 고려해야 함
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReconcileTarget {
+    POST_LIKE("post", "post_id", "like_count", "post_like", "TRUE", CounterType.POST_LIKE),
+    POST_COMMENT("post", "post_id", "comment_count", "comment", "is_deleted = false", CounterType.POST_COMMENT),
+    COMMENT_LIKE("comment", "comment_id", "like_count", "comment_like", "TRUE", CounterType.COMMENT_LIKE);
+
+    private final String table;
+    private final String idColumn;
+    private final String countColumn;
+    private final String sourceTable;
+    private final String sourceCondition;
+    private final CounterType counterType;
+}
@@ -0,0 +1,30 @@
+package grpify.grpify.reconcile.dto;
+
+import grpify.grpify.reconcile.domain.ReconcileTarget;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카운터 보정 결과 (관리자 조회용)
+ * dryRun 이면 fixed = 0, 어긋난 row 만 보고
+ */
+@Getter
+@Builder
+public class ReconcileReportResponse {
+    private ReconcileTarget target;
+    private boolean dryRun;
+    private long maxId;
+    private long mismatched;
+    private long fixed;
+    // 조회 이후 값이 바뀌어서 건너뛴 row (다음 실행에서 다시 확인)
+    private long skipped;
+    private List<Sample> samples;
+    private LocalDateTime startedAt;
+    private long elapsedMs;
+
+    public record Sample(long id, int stored, int actual, int expected) {
+    }
+}
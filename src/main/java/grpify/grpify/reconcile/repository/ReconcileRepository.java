@@ -0,0 +1,77 @@
+package grpify.grpify.reconcile.repository;
+
+import grpify.grpify.reconcile.domain.ReconcileTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비정규화 카운터와 원본 테이블의 실제 row 수 비교, 어긋난 값 수정
+ * 한 번에 id 범위 하나만 -> 범위별로 나눠서 병렬 실행 (CounterReconciler)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReconcileRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record Mismatch(long id, int stored, int actual) {
+    }
+
+    // expected: 실제 row 수에서 아직 반영 안 된 증감량을 뺀 값 (저장돼야 할 값)
+    public record Correction(long id, int stored, int expected) {
+    }
+
+    public long findMaxId(ReconcileTarget target) {
+        Long maxId = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT MAX(" + target.getIdColumn() + ") FROM " + target.getTable(), Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    /**
+     * [fromId, toId] 범위에서 저장된 값과 실제 row 수가 다른 것만
+     * 원본 테이블은 범위 안의 row 만 GROUP BY (FK 인덱스 범위 스캔) -> 대상 테이블과 id 로 조인
+     */
+    public List<Mismatch> findMismatches(ReconcileTarget target, long fromId, long toId) {
+        String sql = """
+                SELECT t.%1$s AS id, t.%2$s AS stored, COALESCE(s.cnt, 0) AS actual
+                FROM %3$s t
+                LEFT JOIN (
+                    SELECT %1$s AS target_id, COUNT(*) AS cnt
+                    FROM %4$s
+                    WHERE %1$s BETWEEN :fromId AND :toId AND %5$s
+                    GROUP BY %1$s
+                ) s ON s.target_id = t.%1$s
+                WHERE t.%1$s BETWEEN :fromId AND :toId
+                AND t.%2$s <> COALESCE(s.cnt, 0)
+                """.formatted(target.getIdColumn(), target.getCountColumn(), target.getTable(),
+                target.getSourceTable(), target.getSourceCondition());
+
+        return jdbcTemplate.query(sql, Map.of("fromId", fromId, "toId", toId),
+                (rs, rowNum) -> new Mismatch(rs.getLong("id"), rs.getInt("stored"), rs.getInt("actual")));
+    }
+
+    /**
+     * 조회할 때의 값이 그대로 남아있는 row 만 수정 (그 사이 다른 쓰기가 있었으면 건너뜀)
+     * @return 문장별 수정된 row 수 (0 이면 건너뜀)
+     */
+    public int[] fix(ReconcileTarget target, List<Correction> corrections) {
+        String column = target.getCountColumn();
+        String sql = "UPDATE " + target.getTable()
+                + " SET " + column + " = :expected"
+                + " WHERE " + target.getIdColumn() + " = :id AND " + column + " = :stored";
+
+        SqlParameterSource[] params = corrections.stream()
+                .map(correction -> new MapSqlParameterSource()
+                        .addValue("id", correction.id())
+                        .addValue("stored", correction.stored())
+                        .addValue("expected", correction.expected()))
+                .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(sql, params);
+    }
+}
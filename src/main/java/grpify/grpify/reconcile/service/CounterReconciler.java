@@ -0,0 +1,256 @@
+package grpify.grpify.reconcile.service;
+
+import grpify.grpify.common.counter.CounterBuffer;
+import grpify.grpify.common.counter.CounterChangedEvent;
+import grpify.grpify.common.counter.CounterType;
+import grpify.grpify.common.exception.DuplicateException;
+import grpify.grpify.post.service.PostCounterShardService;
+import grpify.grpify.reconcile.domain.ReconcileTarget;
+import grpify.grpify.reconcile.dto.ReconcileReportResponse;
+import grpify.grpify.reconcile.repository.ReconcileRepository;
+import grpify.grpify.reconcile.repository.ReconcileRepository.Correction;
+import grpify.grpify.reconcile.repository.ReconcileRepository.Mismatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 비정규화 카운터 보정 (post.like_count, post.comment_count, comment.like_count)
+ *
+ * 트랜잭션 일부 실패, 버퍼 유실 등으로 어긋난 값을 원본 테이블(post_like, comment, comment_like) 기준으로 다시 맞춤
+ *  - id 공간을 range-size 단위로 나눠 fork/join 으로 병렬 처리 (grpify.reconcile.range-size, parallelism)
+ *  - 범위마다 GROUP BY 집계 쿼리 1번 -> 어긋난 row 만 UPDATE
+ *  - dryRun 이면 수정하지 않고 어긋난 row 만 보고
+ *
+ * CounterBuffer 에 아직 반영 안 된 증감량, 카운터 샤드에 있는 값은 실제 row 수에서 빼고 비교
+ * (flush 되면서 더해질 값이므로)
+ * 조회와 수정 사이에 값이 바뀐 row 는 건너뜀 -> 다음 실행에서 다시 확인
+ */
+@Slf4j
+@Service
+public class CounterReconciler {
+
+    private static final int MAX_SAMPLES = 20;
+
+    private final ReconcileRepository reconcileRepository;
+    private final CounterBuffer counterBuffer;
+    private final PostCounterShardService postCounterShardService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int rangeSize;
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<ReconcileTarget, ReconcileReportResponse> lastReports = new ConcurrentHashMap<>();
+
+    public CounterReconciler(ReconcileRepository reconcileRepository,
+                             CounterBuffer counterBuffer,
+                             PostCounterShardService postCounterShardService,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${grpify.reconcile.range-size:5000}") int rangeSize,
+                             @Value("${grpify.reconcile.parallelism:4}") int parallelism) {
+        this.reconcileRepository = reconcileRepository;
+        this.counterBuffer = counterBuffer;
+        this.postCounterShardService = postCounterShardService;
+        this.eventPublisher = eventPublisher;
+        this.rangeSize = rangeSize;
+        this.parallelism = parallelism;
+    }
+
+    @Scheduled(cron = "${grpify.reconcile.cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (ReconcileTarget target : ReconcileTarget.values()) {
+                ReconcileReportResponse report = run(target, false);
+                log.info("{} 카운터 보정 완료: 불일치 {}건, 수정 {}건, 건너뜀 {}건",
+                        target, report.getMismatched(), report.getFixed(), report.getSkipped());
+            }
+        } catch (RuntimeException e) {
+            log.error("카운터 보정 실패: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 관리자 수동 실행
+     */
+    public ReconcileReportResponse reconcile(ReconcileTarget target, boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new DuplicateException("이미 카운터 보정 작업이 실행 중입니다.");
+        }
+        try {
+            return run(target, dryRun);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public List<ReconcileReportResponse> lastReports() {
+        return List.copyOf(lastReports.values());
+    }
+
+    private ReconcileReportResponse run(ReconcileTarget target, boolean dryRun) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long maxId = reconcileRepository.findMaxId(target);
+
+        Tally tally = Tally.EMPTY;
+        if (maxId > 0) {
+            // 공용 풀(parallel stream 등)과 분리, DB 커넥션을 너무 많이 잡지 않도록 스레드 수 제한
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                tally = pool.invoke(new RangeTask(target, dryRun, 1, maxId));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        ReconcileReportResponse report = ReconcileReportResponse.builder()
+                .target(target)
+                .dryRun(dryRun)
+                .maxId(maxId)
+                .mismatched(tally.mismatched())
+                .fixed(tally.fixed())
+                .skipped(tally.skipped())
+                .samples(tally.samples())
+                .startedAt(startedAt)
+                .elapsedMs(Duration.between(startedAt, LocalDateTime.now()).toMillis())
+                .build();
+        lastReports.put(target, report);
+        return report;
+    }
+
+    /**
+     * id 범위 [fromId, toId] 를 range-size 이하가 될 때까지 반으로 나눠서 병렬 처리
+     */
+    private class RangeTask extends RecursiveTask<Tally> {
+
+        private final ReconcileTarget target;
+        private final boolean dryRun;
+        private final long fromId;
+        private final long toId;
+
+        private RangeTask(ReconcileTarget target, boolean dryRun, long fromId, long toId) {
+            this.target = target;
+            this.dryRun = dryRun;
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (toId - fromId < rangeSize) {
+                return reconcileRange(target, dryRun, fromId, toId);
+            }
+            long mid = fromId + (toId - fromId) / 2;
+            RangeTask left = new RangeTask(target, dryRun, fromId, mid);
+            left.fork();
+            Tally right = new RangeTask(target, dryRun, mid + 1, toId).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * 집계(actual) 와 반영 대기 값(unflushed) 을 읽는 사이에 커밋된 좋아요/댓글은 unflushed 에만 들어감 -> 기대값이 1 작아짐
+     * (flush 가 아니라서 stored 는 그대로 -> CAS 로도 못 막음)
+     * 집계 전후로 반영 대기 값을 읽고 그사이 바뀐 row 는 건너뜀 (다음 실행에서 다시 확인)
+     * 집계 전에는 어떤 id 가 틀렸는지 모르므로 후보를 찾은 뒤 한 번 더 집계
+     */
+    private Tally reconcileRange(ReconcileTarget target, boolean dryRun, long fromId, long toId) {
+        List<Mismatch> candidates = reconcileRepository.findMismatches(target, fromId, toId);
+        if (candidates.isEmpty()) {
+            return Tally.EMPTY;
+        }
+        Map<Long, Long> unflushedBefore = new HashMap<>();
+        for (Mismatch candidate : candidates) {
+            unflushedBefore.put(candidate.id(), unflushed(target, candidate.id()));
+        }
+        List<Mismatch> mismatches = reconcileRepository.findMismatches(target, fromId, toId);
+
+        List<Correction> corrections = new ArrayList<>();
+        List<ReconcileReportResponse.Sample> samples = new ArrayList<>();
+        int raced = 0;
+        for (Mismatch mismatch : mismatches) {
+            Long before = unflushedBefore.get(mismatch.id());
+            long unflushed = unflushed(target, mismatch.id());
+            if (before == null || before != unflushed) {
+                raced++;
+                continue;
+            }
+            int expected = mismatch.actual() - (int) unflushed;
+            // 반영 대기 중인 값 때문에 차이가 난 것뿐이면 정상
+            if (expected == mismatch.stored() || expected < 0) {
+                continue;
+            }
+            corrections.add(new Correction(mismatch.id(), mismatch.stored(), expected));
+            if (samples.size() < MAX_SAMPLES) {
+                samples.add(new ReconcileReportResponse.Sample(mismatch.id(), mismatch.stored(), mismatch.actual(), expected));
+            }
+        }
+        if (corrections.isEmpty() || dryRun) {
+            return new Tally(corrections.size() + raced, 0, raced, samples);
+        }
+
+        int[] updated = reconcileRepository.fix(target, corrections);
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] != 0) {
+                Correction correction = corrections.get(i);
+                deltas.put(correction.id(), (long) correction.expected() - correction.stored());
+            }
+        }
+        notifyFixed(target, deltas);
+
+        return new Tally(corrections.size() + raced, deltas.size(), corrections.size() - deltas.size() + raced, samples);
+    }
+
+    // 아직 DB 컬럼에 더해지지 않은 값 (버퍼 + 좋아요 샤드)
+    private long unflushed(ReconcileTarget target, long id) {
+        long unflushed = 0;
+        if (target.getCounterType() != null) {
+            unflushed += counterBuffer.pending(target.getCounterType(), id);
+        }
+        if (target == ReconcileTarget.POST_LIKE && postCounterShardService.hasShardedBoards(CounterType.POST_LIKE)) {
+            unflushed += postCounterShardService.sum(id).getLikes();
+        }
+        return unflushed;
+    }
+
+    // 목록 캐시, 인기 점수가 고친 값을 따라가도록
+    private void notifyFixed(ReconcileTarget target, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (target.getCounterType() != null) {
+            eventPublisher.publishEvent(new CounterChangedEvent(target.getCounterType(), deltas));
+        }
+    }
+
+    private record Tally(long mismatched, long fixed, long skipped, List<ReconcileReportResponse.Sample> samples) {
+
+        private static final Tally EMPTY = new Tally(0, 0, 0, List.of());
+
+        private Tally merge(Tally other) {
+            List<ReconcileReportResponse.Sample> merged = new ArrayList<>(samples);
+            merged.addAll(other.samples);
+            return new Tally(mismatched + other.mismatched, fixed + other.fixed, skipped + other.skipped,
+                    List.copyOf(merged.subList(0, Math.min(merged.size(), MAX_SAMPLES))));
+        }
+    }
+}
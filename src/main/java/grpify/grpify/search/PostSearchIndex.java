@@ -0,0 +1,263 @@
+package grpify.grpify.search;
+
+import grpify.grpify.common.exception.BadRequestException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 + 댓글 전문 검색 인덱스 (Lucene, 로컬 파일시스템)
+ *
+ * LIKE '%검색어%' 는 인덱스를 못 타고 테이블 전체를 스캔 -> 역색인으로 단어 -> 게시글 목록을 바로 찾음
+ * 한국어 형태소 분석은 nori (KoreanAnalyzer)
+ *
+ * 문서 = 게시글 하나 (제목, 본문, 댓글 내용 전부)
+ * 정렬 = 관련도(score) 내림차순, 동률은 post_id 내림차순 -> (score, post_id) 로 searchAfter 커서 페이징
+ *
+ * 쓰기는 IndexWriter 하나를 여러 스레드가 공유 (thread-safe)
+ * 검색은 SearcherManager 가 주기적으로 새로 연 searcher 사용 (near-real-time, grpify.search.refresh-interval-ms)
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    static final String POST_ID = "postId";
+    static final String BOARD_ID = "boardId";
+    static final String TITLE = "title";
+    static final String BODY = "body";
+    static final String COMMENTS = "comments";
+
+    private static final String BACKFILL_COMPLETE = "backfillComplete";
+    private static final String BACKFILL_NEXT_ID = "backfillNextId";
+
+    // 제목에 있는 단어가 본문, 댓글보다 관련도가 높음
+    private static final Map<String, Float> BOOSTS = Map.of(TITLE, 3.0f, BODY, 1.0f, COMMENTS, 0.5f);
+    private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE, new SortField(POST_ID, SortField.Type.LONG, true));
+    // 대문자 AND/OR/NOT 단어는 QueryParser 가 연산자로 해석 ("a AND" 는 파싱 실패) -> 소문자로 바꿔 일반 단어로
+    private static final Pattern OPERATOR = Pattern.compile("\\b(AND|OR|NOT)\\b");
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public PostSearchIndex(@Value("${grpify.data-dir:data}") String dataDir) {
+        Path path = Paths.get(dataDir, "search-index");
+        try {
+            this.directory = FSDirectory.open(path);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 인덱스를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    public record Hit(long postId, float score) {
+    }
+
+    /**
+     * 백필 진행 상황은 commit user data 에 기록 -> 색인된 문서와 같이 확정됨 (중간에 종료돼도 둘이 어긋나지 않음)
+     * 문서가 있는지로 판단하면 백필 도중 commit 된 인덱스는 완료된 것처럼 보임
+     */
+    public boolean isBackfillComplete() {
+        return "true".equals(commitData().get(BACKFILL_COMPLETE));
+    }
+
+    // 이 id 전까지는 색인 완료 (기록이 없으면 0 -> 처음부터)
+    public long backfillNextId() {
+        String nextId = commitData().get(BACKFILL_NEXT_ID);
+        return nextId == null ? 0 : Long.parseLong(nextId);
+    }
+
+    // 다음 commit 때 같이 기록
+    public void markBackfillProgress(long nextId) {
+        writer.setLiveCommitData(Map.of(BACKFILL_NEXT_ID, String.valueOf(nextId)).entrySet());
+    }
+
+    public void markBackfillComplete() {
+        writer.setLiveCommitData(Map.of(BACKFILL_COMPLETE, "true").entrySet());
+    }
+
+    private Map<String, String> commitData() {
+        Iterable<Map.Entry<String, String>> liveCommitData = writer.getLiveCommitData();
+        Map<String, String> data = new HashMap<>();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> data.put(entry.getKey(), entry.getValue()));
+        }
+        return data;
+    }
+
+    /**
+     * 게시글 문서 추가/교체 (post_id 기준 upsert)
+     */
+    public void upsert(PostSearchRepository.IndexRow row) {
+        Document document = new Document();
+        document.add(new StringField(POST_ID, String.valueOf(row.postId()), Field.Store.NO));
+        document.add(new NumericDocValuesField(POST_ID, row.postId()));
+        document.add(new StoredField(POST_ID, row.postId()));
+        document.add(new LongPoint(BOARD_ID, row.boardId()));
+        document.add(new TextField(TITLE, row.title(), Field.Store.NO));
+        if (row.body() != null) {
+            document.add(new TextField(BODY, row.body(), Field.Store.NO));
+        }
+        for (String comment : row.comments()) {
+            document.add(new TextField(COMMENTS, comment, Field.Store.NO));
+        }
+
+        try {
+            writer.updateDocument(new Term(POST_ID, String.valueOf(row.postId())), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long postId) {
+        try {
+            writer.deleteDocuments(new Term(POST_ID, String.valueOf(postId)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deleteBoard(Long boardId) {
+        try {
+            writer.deleteDocuments(LongPoint.newExactQuery(BOARD_ID, boardId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param after 이전 페이지 마지막 결과 (첫 페이지는 null)
+     * @return 관련도 순 최대 size 개
+     */
+    public List<Hit> search(Long boardId, String text, Hit after, int size) {
+        Query query = buildQuery(boardId, text);
+
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = (after == null)
+                    ? searcher.search(query, size, RELEVANCE, true)
+                    // post_id 가 유일하므로 doc 번호는 비교에 쓰이지 않음
+                    : searcher.searchAfter(new FieldDoc(Integer.MAX_VALUE, after.score(),
+                            new Object[]{after.score(), after.postId()}), query, size, RELEVANCE, true);
+
+            List<Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                FieldDoc fieldDoc = (FieldDoc) scoreDoc;
+                hits.add(new Hit((Long) fieldDoc.fields[1], (Float) fieldDoc.fields[0]));
+            }
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private Query buildQuery(Long boardId, String text) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(new String[]{TITLE, BODY, COMMENTS}, analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+
+        Query textQuery;
+        try {
+            // 사용자 입력의 쿼리 문법(+, -, *, :) 과 AND/OR/NOT 연산자는 그대로 단어로 취급
+            textQuery = parser.parse(QueryParser.escape(OPERATOR.matcher(text).replaceAll(m -> m.group().toLowerCase())));
+        } catch (ParseException e) {
+            // 검색어가 너무 길어 조건 수 초과 등 -> 사용자 입력 문제이므로 400
+            throw new BadRequestException("검색어를 해석할 수 없습니다. 검색어를 줄여서 다시 시도해주세요.");
+        }
+
+        return new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .add(LongPoint.newExactQuery(BOARD_ID, boardId), BooleanClause.Occur.FILTER)
+                .build();
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색 searcher 반환 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 쓰기 결과를 검색에 반영 (commit 없이 NRT reopen)
+     */
+    @Scheduled(fixedDelayString = "${grpify.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("검색 인덱스 refresh 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 디스크에 확정 (재시작 후에도 유지)
+     */
+    @Scheduled(fixedDelayString = "${grpify.search.commit-interval-ms:60000}")
+    public void commit() {
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.warn("검색 인덱스 commit 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+}
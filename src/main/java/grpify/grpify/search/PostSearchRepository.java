@@ -0,0 +1,73 @@
+package grpify.grpify.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 인덱스에 넣을 게시글, 본문, 댓글 조회 (JDBC, 영속성 컨텍스트에 올리지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record IndexRow(long postId, long boardId, String title, String body, List<String> comments) {
+    }
+
+    public record IdRange(long min, long max) {
+    }
+
+    public IdRange findIdRange() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(post_id), 0) AS min_id, COALESCE(MAX(post_id), -1) AS max_id FROM post",
+                Map.of(),
+                (rs, rowNum) -> new IdRange(rs.getLong("min_id"), rs.getLong("max_id")));
+    }
+
+    public List<IndexRow> findByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return find("p.post_id IN (:postIds)", "c.post_id IN (:postIds)",
+                new MapSqlParameterSource("postIds", postIds));
+    }
+
+    /**
+     * 백필용, post_id 범위 [fromId, toId]
+     */
+    public List<IndexRow> findByIdRange(long fromId, long toId) {
+        return find("p.post_id BETWEEN :fromId AND :toId", "c.post_id BETWEEN :fromId AND :toId",
+                new MapSqlParameterSource("fromId", fromId).addValue("toId", toId));
+    }
+
+    private List<IndexRow> find(String postCondition, String commentCondition, MapSqlParameterSource params) {
+        Map<Long, List<String>> comments = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT c.post_id, c.content
+                FROM comment c
+                WHERE %s AND c.is_deleted = false
+                """.formatted(commentCondition), params, rs -> {
+            comments.computeIfAbsent(rs.getLong("post_id"), id -> new ArrayList<>()).add(rs.getString("content"));
+        });
+
+        return jdbcTemplate.query("""
+                SELECT p.post_id, p.board_id, p.title, pc.body
+                FROM post p
+                LEFT JOIN post_content pc ON pc.post_id = p.post_id
+                WHERE %s AND p.is_deleted = false
+                """.formatted(postCondition), params, (rs, rowNum) -> {
+            long postId = rs.getLong("post_id");
+            return new IndexRow(postId, rs.getLong("board_id"), rs.getString("title"), rs.getString("body"),
+                    comments.getOrDefault(postId, List.of()));
+        });
+    }
+}
@@ -0,0 +1,224 @@
+package grpify.grpify.search;
+
+import grpify.grpify.board.event.BoardDeletedEvent;
+import grpify.grpify.board.service.BoardService;
+import grpify.grpify.comment.event.CommentChangedEvent;
+import grpify.grpify.common.dto.CursorResponse;
+import grpify.grpify.common.exception.BadRequestException;
+import grpify.grpify.common.util.CursorCodec;
+import grpify.grpify.post.dto.PostSummaryResponse;
+import grpify.grpify.post.event.PostChangedEvent;
+import grpify.grpify.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색
+ *
+ * 인덱스 갱신
+ *  - 게시글/댓글 작성, 수정 -> 커밋 후 해당 게시글을 dirty 로 표시, 주기적으로 모아서 다시 색인
+ *    (댓글이 몰려도 같은 게시글은 한 번만 다시 색인)
+ *  - 게시글 삭제, 게시판 삭제 -> 바로 인덱스에서 제거
+ *  - 기동 시 백필이 끝나지 않았으면 post_id 범위를 나눠서 병렬로 백필 (grpify.search.backfill-threads)
+ *    진행 상황(여기까지 색인 완료한 id) 은 인덱스 commit 에 같이 기록 -> 중간에 재시작되면 이어서
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PostSearchService {
+
+    private static final int REINDEX_BATCH_SIZE = 500;
+    private static final int BACKFILL_CHUNK_SIZE = 1000;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostSearchRepository postSearchRepository;
+    private final PostRepository postRepository;
+    private final BoardService boardService;
+    private final int backfillThreads;
+
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+
+    public PostSearchService(PostSearchIndex postSearchIndex,
+                             PostSearchRepository postSearchRepository,
+                             PostRepository postRepository,
+                             BoardService boardService,
+                             @Value("${grpify.search.backfill-threads:4}") int backfillThreads) {
+        this.postSearchIndex = postSearchIndex;
+        this.postSearchRepository = postSearchRepository;
+        this.postRepository = postRepository;
+        this.boardService = boardService;
+        this.backfillThreads = backfillThreads;
+    }
+
+    /**
+     * 관련도 순 검색, 커서 = 마지막 결과의 (score, post_id)
+     */
+    public CursorResponse<PostSummaryResponse> search(Long boardId, String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("검색어를 입력해주세요.");
+        }
+        boardService.findById(boardId);
+
+        PostSearchIndex.Hit after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                after = new PostSearchIndex.Hit(Long.parseLong(parts[1]), Float.parseFloat(parts[0]));
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("잘못된 커서입니다.");
+            }
+        }
+
+        List<PostSearchIndex.Hit> hits = postSearchIndex.search(boardId, query.strip(), after, size + 1);
+        boolean hasNext = hits.size() > size;
+        List<PostSearchIndex.Hit> page = hasNext ? hits.subList(0, size) : hits;
+
+        // 본문, 작성자 등은 DB 에서 한 번에 조회 후 관련도 순서대로 정렬 (인덱스 반영 전 삭제된 게시글은 제외)
+        Map<Long, PostSummaryResponse> summaries = postRepository.findSummariesByIds(
+                        page.stream().map(PostSearchIndex.Hit::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(PostSummaryResponse::getId, Function.identity()));
+
+        List<PostSummaryResponse> items = page.stream()
+                .map(hit -> summaries.get(hit.postId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        PostSearchIndex.Hit last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorResponse.<PostSummaryResponse>builder()
+                .items(items)
+                .nextCursor(hasNext ? CursorCodec.encode(last.score(), last.postId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            dirtyPostIds.remove(event.postId());
+            postSearchIndex.delete(event.postId());
+        } else {
+            dirtyPostIds.add(event.postId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        dirtyPostIds.add(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        postSearchIndex.deleteBoard(event.boardId());
+    }
+
+    /**
+     * dirty 게시글 다시 색인, DB 에 없거나 삭제된 게시글은 인덱스에서도 제거
+     */
+    @Scheduled(fixedDelayString = "${grpify.search.reindex-interval-ms:1000}")
+    public void reindexDirty() {
+        List<Long> postIds = takeDirty();
+        while (!postIds.isEmpty()) {
+            try {
+                Set<Long> missing = new HashSet<>(postIds);
+                for (PostSearchRepository.IndexRow row : postSearchRepository.findByIds(postIds)) {
+                    postSearchIndex.upsert(row);
+                    missing.remove(row.postId());
+                }
+                missing.forEach(postSearchIndex::delete);
+            } catch (RuntimeException e) {
+                log.error("검색 인덱스 갱신 실패, 다음 주기에 재시도: {}", e.getMessage(), e);
+                dirtyPostIds.addAll(postIds);
+                return;
+            }
+            postIds = takeDirty();
+        }
+    }
+
+    private List<Long> takeDirty() {
+        List<Long> postIds = new ArrayList<>(REINDEX_BATCH_SIZE);
+        Iterator<Long> iterator = dirtyPostIds.iterator();
+        while (iterator.hasNext() && postIds.size() < REINDEX_BATCH_SIZE) {
+            postIds.add(iterator.next());
+            iterator.remove();
+        }
+        return postIds;
+    }
+
+    /**
+     * 백필이 끝나지 않았으면 기동 후 백그라운드에서 이어서 백필 (요청 처리는 바로 시작)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfIncomplete() {
+        if (postSearchIndex.isBackfillComplete()) {
+            return;
+        }
+        Thread thread = new Thread(this::backfill, "search-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * post_id 범위를 BACKFILL_CHUNK_SIZE 단위로 나눠서 병렬 색인, 지난번에 기록된 id 부터
+     * IndexWriter 는 여러 스레드가 동시에 써도 안전, 청크마다 DB 조회 2번 (게시글+본문, 댓글)
+     * 청크는 순서대로 기다림 -> 기다린 청크까지는 앞쪽이 모두 끝났으므로 그 다음 id 를 진행 상황으로 기록
+     */
+    public void backfill() {
+        PostSearchRepository.IdRange range = postSearchRepository.findIdRange();
+        long startId = Math.max(range.min(), postSearchIndex.backfillNextId());
+
+        long startedAt = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(backfillThreads);
+        try {
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            List<Long> chunkEnds = new ArrayList<>();
+            for (long from = startId; from <= range.max(); from += BACKFILL_CHUNK_SIZE) {
+                long fromId = from;
+                long toId = Math.min(from + BACKFILL_CHUNK_SIZE - 1, range.max());
+                futures.add(CompletableFuture.supplyAsync(() -> indexRange(fromId, toId), executor));
+                chunkEnds.add(toId);
+            }
+
+            int indexed = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                indexed += futures.get(i).join();
+                postSearchIndex.markBackfillProgress(chunkEnds.get(i) + 1);
+            }
+            postSearchIndex.markBackfillComplete();
+            postSearchIndex.commit();
+            postSearchIndex.refresh();
+
+            log.info("검색 인덱스 백필 완료: {}건, {}ms", indexed, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("검색 인덱스 백필 실패: {}", e.getMessage(), e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int indexRange(long fromId, long toId) {
+        List<PostSearchRepository.IndexRow> rows = postSearchRepository.findByIdRange(fromId, toId);
+        rows.forEach(postSearchIndex::upsert);
+        return rows.size();
+    }
+}
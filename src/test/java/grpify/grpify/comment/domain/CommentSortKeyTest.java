@@ -0,0 +1,74 @@
+package grpify.grpify.comment.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentSortKeyTest {
+
+    @Test
+    @DisplayName("정렬 키 문자열 순서가 부모, 자식, 다음 형제 순서와 같다")
+    void keysSortInThreadOrder() {
+        String first = CommentSortKey.of(null, 9);
+        String reply = CommentSortKey.of(first, 40);
+        String nestedReply = CommentSortKey.of(reply, 1_000_000);
+        String second = CommentSortKey.of(null, 36);
+
+        List<String> keys = new ArrayList<>(List.of(second, nestedReply, first, reply));
+        keys.sort(null);
+
+        assertThat(keys).containsExactly(first, reply, nestedReply, second);
+        assertThat(nestedReply).hasSize(CommentSortKey.SEGMENT_LENGTH * 3);
+    }
+
+    @Test
+    @DisplayName("이전 형식 키를 같은 계층의 새 형식 키로 변환한다")
+    void convertsLegacyKeys() {
+        String legacy = String.format("%010d", 12) + "->" + String.format("%010d", 345);
+
+        assertThat(CommentSortKey.isLegacy(legacy)).isTrue();
+        assertThat(CommentSortKey.isLegacy(String.format("%010d", 12))).isTrue();
+        assertThat(CommentSortKey.fromLegacy(legacy)).isEqualTo(CommentSortKey.of(CommentSortKey.of(null, 12), 345));
+        assertThat(CommentSortKey.isLegacy(CommentSortKey.fromLegacy(legacy))).isFalse();
+    }
+
+    @Test
+    @DisplayName("변환 전 게시글에 달리는 댓글은 이전 형식 키라서 기존 키와 순서가 맞는다")
+    void legacyParentKeepsLegacyFormat() {
+        String root = CommentSortKey.root(12, true);
+        String reply = CommentSortKey.of(root, 345);
+        String nestedReply = CommentSortKey.of(reply, 999);
+        String nextRoot = CommentSortKey.root(13, true);
+
+        assertThat(root).isEqualTo(String.format("%010d", 12));
+        assertThat(nestedReply).isEqualTo(reply + "->" + String.format("%010d", 999));
+        assertThat(CommentSortKey.isLegacy(nestedReply)).isTrue();
+        assertThat(List.of(root, reply, nestedReply, nextRoot)).isSorted();
+        assertThat(nestedReply).isLessThan(CommentSortKey.subtreeEnd(root));
+        assertThat(nextRoot).isGreaterThanOrEqualTo(CommentSortKey.subtreeEnd(root));
+        assertThat(CommentSortKey.ancestorIds(nestedReply)).containsExactly(12L, 345L);
+        // 변환하면 새 형식으로 같은 계층
+        assertThat(CommentSortKey.fromLegacy(nestedReply))
+                .isEqualTo(CommentSortKey.of(CommentSortKey.of(CommentSortKey.of(null, 12), 345), 999));
+    }
+
+    @Test
+    @DisplayName("하위 댓글 키는 모두 (키, 하위 범위 끝) 사이에 있고 다음 형제는 범위 밖이다")
+    void subtreeRangeCoversDescendantsOnly() {
+        String root = CommentSortKey.of(null, 35);
+        String reply = CommentSortKey.of(root, 71);
+        String nestedReply = CommentSortKey.of(reply, 2);
+        String nextRoot = CommentSortKey.of(null, 36);
+        String end = CommentSortKey.subtreeEnd(root);
+
+        assertThat(reply).isGreaterThan(root).isLessThan(end);
+        assertThat(nestedReply).isGreaterThan(root).isLessThan(end);
+        assertThat(nextRoot).isGreaterThanOrEqualTo(end);
+        assertThat(CommentSortKey.ancestorIds(nestedReply)).containsExactly(35L, 71L);
+        assertThat(CommentSortKey.ancestorIds(root)).isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package grpify.grpify.comment.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentRankIndexTest {
+
+    @Test
+    @DisplayName("순위와 k 번째 키가 정렬된 목록의 위치와 같다")
+    void rankAndKeyAtMatchSortedOrder() {
+        CommentRankIndex.RankTree tree = new CommentRankIndex.RankTree();
+        List<String> keys = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            keys.add(Integer.toString(random.nextInt(1_000_000), 36));
+        }
+        keys.forEach(tree::insert);
+        List<String> sorted = keys.stream().distinct().sorted().toList();
+
+        assertThat(tree.size()).isEqualTo(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(tree.keyAt(i)).isEqualTo(sorted.get(i));
+            assertThat(tree.countLess(sorted.get(i))).isEqualTo(i);
+        }
+        assertThat(tree.keyAt(sorted.size())).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 있는 키는 다시 추가되지 않는다")
+    void insertIgnoresDuplicates() {
+        CommentRankIndex.RankTree tree = new CommentRankIndex.RankTree();
+        List<String> keys = new ArrayList<>(List.of("a", "b", "c"));
+        Collections.shuffle(keys, new Random(1));
+        keys.forEach(tree::insert);
+
+        assertThat(tree.insert("b")).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.countLess("bb")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("표본 구간에 키를 추가하면 그 뒤 위치는 다음 구간 경계 기준으로 찾는다")
+    void sampledKeysSeekFromNearestBound() {
+        CommentRankIndex.SampledKeys sampled = new CommentRankIndex.SampledKeys(
+                List.of("", "c", "f"), List.of(3, 3, 2));
+
+        assertThat(sampled.seek(0)).isEqualTo(new CommentRankIndex.SampledKeys.Seek("", 0));
+        assertThat(sampled.seek(4)).isEqualTo(new CommentRankIndex.SampledKeys.Seek("c", 1));
+        assertThat(sampled.seek(8)).isNull();
+
+        assertThat(sampled.insert("bb")).isEqualTo(4);
+        assertThat(sampled.insert("c0")).isEqualTo(4);
+        assertThat(sampled.seek(3)).isEqualTo(new CommentRankIndex.SampledKeys.Seek("", 3));
+        assertThat(sampled.seek(8)).isEqualTo(new CommentRankIndex.SampledKeys.Seek("f", 0));
+        assertThat(sampled.seek(10)).isNull();
+    }
+}
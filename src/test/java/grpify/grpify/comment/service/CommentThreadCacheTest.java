@@ -0,0 +1,77 @@
+package grpify.grpify.comment.service;
+
+import grpify.grpify.comment.domain.CommentSortKey;
+import grpify.grpify.comment.dto.CommentQueryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentThreadCacheTest {
+
+    @Test
+    @DisplayName("답글은 부모 바로 뒤 정렬 키 위치에 추가되고 페이지는 그 순서로 잘린다")
+    void upsertKeepsSortKeyOrder() {
+        String root1 = CommentSortKey.of(null, 1);
+        String root2 = CommentSortKey.of(null, 2);
+        CommentThreadCache.CommentThread thread = new CommentThreadCache.CommentThread(
+                List.of(row(1, root1), row(2, root2)));
+
+        thread.upsert(row(3, CommentSortKey.of(root1, 3)));
+
+        assertThat(thread.size()).isEqualTo(3);
+        assertThat(thread.slice(0, 10)).extracting(CommentQueryDto::getCommentId).containsExactly(1L, 3L, 2L);
+        assertThat(thread.sliceAfter(root1, 1)).extracting(CommentQueryDto::getCommentId).containsExactly(3L);
+        assertThat(thread.sliceAfter("", 2)).extracting(CommentQueryDto::getCommentId).containsExactly(1L, 3L);
+        assertThat(thread.slice(3, 10)).isEmpty();
+
+        // 추가로 뒤로 밀린 댓글도 id 로 찾아서 좋아요 수 반영
+        thread.addLikeCounts(Map.of(2L, 3L, 3L, 1L));
+        assertThat(thread.slice(0, 10)).extracting(CommentQueryDto::getLikeCount).containsExactly(0, 1, 3);
+    }
+
+    @Test
+    @DisplayName("삭제 표시와 좋아요 수 변경은 해당 댓글에만 반영된다")
+    void markDeletedAndLikeCounts() {
+        String root1 = CommentSortKey.of(null, 1);
+        CommentThreadCache.CommentThread thread = new CommentThreadCache.CommentThread(
+                List.of(row(1, root1), row(2, CommentSortKey.of(null, 2))));
+
+        thread.markDeleted(root1);
+        thread.addLikeCounts(Map.of(2L, 5L));
+
+        List<CommentQueryDto> rows = thread.slice(0, 10);
+        assertThat(rows.get(0).getIsDeleted()).isTrue();
+        assertThat(rows.get(0).getLikeCount()).isZero();
+        assertThat(rows.get(1).getIsDeleted()).isFalse();
+        assertThat(rows.get(1).getLikeCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("빈도 스케치는 같은 게시글의 조회 횟수를 적게 세지 않는다")
+    void sketchNeverUnderestimates() {
+        CommentThreadCache.AdmissionSketch sketch = new CommentThreadCache.AdmissionSketch(1024);
+        for (long postId = 1; postId <= 500; postId++) {
+            sketch.increment(postId);
+        }
+
+        int frequency = 0;
+        for (int i = 0; i < 3; i++) {
+            frequency = sketch.increment(7L);
+        }
+        assertThat(frequency).isGreaterThanOrEqualTo(4);
+    }
+
+    private static CommentQueryDto row(long commentId, String sortKey) {
+        return CommentQueryDto.builder()
+                .commentId(commentId)
+                .content("댓글 " + commentId)
+                .likeCount(0)
+                .isDeleted(false)
+                .sortKey(sortKey)
+                .build();
+    }
+}
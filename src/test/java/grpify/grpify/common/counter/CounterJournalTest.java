@@ -0,0 +1,53 @@
+package grpify.grpify.common.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterJournalTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("DB 에 반영되지 않은 세그먼트는 재시작 시 id 별 합계로 복구된다")
+    void recoverUnflushedSegments() {
+        // 크래시 전 프로세스: 버퍼에만 쌓이고 flush 되지 않음
+        CounterJournal before = new CounterJournal(dataDir.toString(), 4, true);
+        DeltaBuffer buffer = new DeltaBuffer(() -> before.open(CounterType.POST_VIEW));
+        for (int i = 0; i < 10; i++) {
+            buffer.add(1L, 1); // 세그먼트 용량(4) 을 넘겨서 세대 교체까지 발생
+        }
+        buffer.add(2L, 3);
+
+        // 재시작
+        CounterJournal after = new CounterJournal(dataDir.toString(), 4, true);
+        CounterJournal.Recovered recovered = after.recover(CounterType.POST_VIEW);
+
+        assertThat(recovered.getDeltas()).containsEntry(1L, 10L).containsEntry(2L, 3L);
+
+        recovered.complete();
+        assertThat(new CounterJournal(dataDir.toString(), 4, true)
+                .recover(CounterType.POST_VIEW).getDeltas()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flush 가 끝난 세그먼트는 삭제되어 다시 복구되지 않는다")
+    void completedSegmentsAreNotReplayed() {
+        CounterJournal journal = new CounterJournal(dataDir.toString(), 16, true);
+        DeltaBuffer buffer = new DeltaBuffer(() -> journal.open(CounterType.POST_VIEW));
+        buffer.add(1L, 5);
+
+        DeltaBuffer.Drained drained = buffer.drain();
+        drained.complete();
+        buffer.close();
+
+        assertThat(drained.deltas()).containsEntry(1L, 5L);
+        assertThat(new CounterJournal(dataDir.toString(), 16, true)
+                .recover(CounterType.POST_VIEW).getDeltas()).isEmpty();
+    }
+}
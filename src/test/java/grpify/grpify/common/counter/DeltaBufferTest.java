@@ -0,0 +1,87 @@
+package grpify.grpify.common.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaBufferTest {
+
+    @Test
+    @DisplayName("drain 은 id 별 합계를 id 오름차순으로 반환하고 버퍼를 비운다")
+    void drainReturnsSortedSums() {
+        DeltaBuffer buffer = new DeltaBuffer();
+        buffer.add(3L, 1);
+        buffer.add(1L, 2);
+        buffer.add(3L, 4);
+
+        Map<Long, Long> deltas = buffer.drain().deltas();
+
+        assertThat(deltas).containsExactly(Map.entry(1L, 2L), Map.entry(3L, 5L));
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.drain().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("pending 은 아직 drain 되지 않은 id 의 증감량 합계를 반환한다")
+    void pendingSumsUndrainedDeltas() {
+        DeltaBuffer buffer = new DeltaBuffer();
+        buffer.add(1L, 1);
+        buffer.add(1L, 1);
+        buffer.add(1L, -1);
+        buffer.add(2L, 5);
+
+        assertThat(buffer.pending(1L)).isEqualTo(1L);
+        assertThat(buffer.pending(3L)).isZero();
+
+        buffer.drain();
+        assertThat(buffer.pending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기와 drain 이 동시에 일어나도 증가분이 유실되거나 중복되지 않는다")
+    void concurrentAddAndDrainKeepsEveryIncrement() throws InterruptedException {
+        DeltaBuffer buffer = new DeltaBuffer();
+        int threadCount = 8;
+        int incrementsPerThread = 100_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < incrementsPerThread; j++) {
+                        buffer.add(1L, 1);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        AtomicLong drained = new AtomicLong();
+        AtomicBoolean writersDone = new AtomicBoolean(false);
+        Thread flusher = new Thread(() -> {
+            while (!writersDone.get()) {
+                drained.addAndGet(buffer.drain().deltas().getOrDefault(1L, 0L));
+            }
+        });
+        flusher.start();
+
+        latch.await(30, TimeUnit.SECONDS);
+        writersDone.set(true);
+        flusher.join();
+        executor.shutdown();
+        drained.addAndGet(buffer.drain().deltas().getOrDefault(1L, 0L));
+
+        assertThat(drained.get()).isEqualTo((long) threadCount * incrementsPerThread);
+    }
+}
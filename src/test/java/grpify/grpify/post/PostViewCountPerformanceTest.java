@@ -166,7 +166,7 @@ class PostViewCountPerformanceTest {
         for (int i = 0; i < totalRequests; i++) {
             executor.submit(() -> {
                 try {
-                    postService.incrementViewCount(testPost.getId());
+                    postService.incrementViewCountBulk(testPost.getId());
                 } catch (Exception e) {
                     log.error("Case 2 - 벌크 업데이트에서 오류 발생: {}", e.getMessage(), e);
                 } finally {
@@ -287,7 +287,7 @@ class PostViewCountPerformanceTest {
         log.debug("Creating post with User ID: {}, Board ID: {}", testUser.getId(), testBoard.getId());
         Post post = Post.builder()
                 .title(title + "_" + System.currentTimeMillis())
-                .content("테스트 내용")
+                .preview("테스트 내용")
                 .author(testUser)
                 .board(testBoard)
                 .viewCount(0)